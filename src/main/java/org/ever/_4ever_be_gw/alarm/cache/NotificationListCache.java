@@ -0,0 +1,136 @@
+package org.ever._4ever_be_gw.alarm.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 알림 목록 첫 페이지 캐시
+ * - 알림 서버 응답 바이트를 그대로 저장하고 그대로 응답합니다. (Object 트리로 역직렬화/재직렬화하지 않음)
+ * - 사용자당 Redis Hash 하나에 필터(source/sortBy/order/size)별 필드로 저장하여, 무효화는 키 삭제 한 번으로 끝납니다.
+ * - 무효화 시 세대(generation) 값을 올리고, 조회 시작 시점의 세대와 다르면 저장하지 않습니다.
+ *   (조회하는 동안 새 알림/읽음 처리가 끼어들면 오래된 목록이 캐시에 남는 것을 방지)
+ */
+@Slf4j
+@Component
+public class NotificationListCache {
+
+    // 세대가 같을 때만 저장하고 TTL 설정
+    private static final byte[] STORE_IF_CURRENT = (
+        "local g = redis.call('GET', KEYS[2]) or '0' "
+            + "if g ~= ARGV[1] then return 0 end "
+            + "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+            + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final NotificationListCacheProperties properties;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    public NotificationListCache(
+        NotificationListCacheProperties properties,
+        @Qualifier("byteArrayRedisTemplate") RedisTemplate<String, byte[]> redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public static String field(String source, String sortBy, String order, Integer size) {
+        return (source != null ? source.toUpperCase() : "ALL") + "|" + sortBy + "|" + order + "|" + size;
+    }
+
+    public byte[] get(String userId, String field) {
+        try {
+            return redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.hashCommands().hGet(bytes(listKey(userId)), bytes(field)));
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 목록 캐시 조회 실패 - userId: {}, reason: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 현재 세대를 반환합니다. 알림 서버 조회 전에 읽어 두고 store 에 넘깁니다.
+     */
+    public String generation(String userId) {
+        try {
+            byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(bytes(generationKey(userId))));
+            return value != null ? new String(value, StandardCharsets.UTF_8) : "0";
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public void store(String userId, String field, String generation, byte[] body) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                STORE_IF_CURRENT, ReturnType.INTEGER, 2,
+                bytes(listKey(userId)), bytes(generationKey(userId)),
+                bytes(generation), bytes(field), body, bytes(Long.toString(properties.getTtl().toMillis()))));
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 목록 캐시 저장 실패 - userId: {}, reason: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 모든 필터 캐시를 지우고 세대를 올립니다.
+     */
+    public void invalidate(String userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                invalidate(connection, userId);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 목록 캐시 무효화 실패 - userId: {}, reason: {}", userId, e.getMessage());
+        }
+    }
+
+    public void invalidateAll(Iterable<String> userIds) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                userIds.forEach(userId -> invalidate(connection, userId));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 목록 캐시 일괄 무효화 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    private void invalidate(RedisConnection connection, String userId) {
+        byte[] generationKey = bytes(generationKey(userId));
+        connection.keyCommands().del(bytes(listKey(userId)));
+        connection.stringCommands().incr(generationKey);
+        // 세대 키는 진행 중인 조회보다만 오래 살아 있으면 됨
+        connection.keyCommands().pExpire(generationKey, properties.getTtl().toMillis() * 2);
+    }
+
+    private String listKey(String userId) {
+        return properties.getKeyPrefix() + userId;
+    }
+
+    private String generationKey(String userId) {
+        return properties.getKeyPrefix() + "gen:" + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
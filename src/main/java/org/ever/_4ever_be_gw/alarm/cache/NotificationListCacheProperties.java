@@ -0,0 +1,24 @@
+package org.ever._4ever_be_gw.alarm.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 목록 첫 페이지 캐시 설정 (gateway.alarm.list-cache)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.alarm.list-cache")
+public class NotificationListCacheProperties {
+
+    private boolean enabled = true;
+
+    private String keyPrefix = "gw:alarm:list:";
+
+    // 이벤트로 무효화되지 않는 경우(오프라인 그룹 멤버 등)의 최대 보관 시간
+    private Duration ttl = Duration.ofMinutes(2);
+}
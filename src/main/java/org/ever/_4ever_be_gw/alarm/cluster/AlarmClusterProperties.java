@@ -0,0 +1,39 @@
+package org.ever._4ever_be_gw.alarm.cluster;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게이트웨이 노드 간 알림 전달 설정 (gateway.alarm.cluster)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.alarm.cluster")
+public class AlarmClusterProperties {
+
+    private boolean enabled = true;
+
+    // 노드 식별자 (미지정 시 기동마다 새로 발급, 파드 이름 등을 지정하면 로그 추적이 쉬워짐)
+    private String nodeId = UUID.randomUUID().toString();
+
+    // 알림을 다른 노드로 중계하는 공용 Redis 채널 (접속 정보를 쓸 수 없을 때, 그룹 알림)
+    private String relayChannel = "gw:alarm:relay";
+
+    // 사용자 → 노드 접속 정보 (끄면 개인 알림도 모든 노드로 중계)
+    private boolean presenceEnabled = true;
+    private String presenceKeyPrefix = "gw:alarm:presence:";
+
+    // 접속 정보 임대 기간과 노드 단위 일괄 갱신 주기 (노드가 죽으면 임대 기간 후 자연 만료)
+    private Duration presenceLease = Duration.ofSeconds(60);
+    private Duration presenceHeartbeatInterval = Duration.ofSeconds(20);
+
+    // 노드별 전용 중계 채널 (relayChannel + ":" + nodeId)
+    public String nodeChannel(String nodeId) {
+        return relayChannel + ":" + nodeId;
+    }
+}
@@ -0,0 +1,120 @@
+package org.ever._4ever_be_gw.alarm.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.cache.NotificationListCache;
+import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.alarm.sse.SseGroupIndex;
+import org.ever._4ever_be_gw.alarm.unread.UnreadCounter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 SSE 알림 중계
+ * - Kafka alarm-sent 는 공유 컨슈머 그룹으로 소비되므로, 이벤트를 받은 노드 외의 노드에도 사용자의 SSE 연결이 있을 수 있습니다.
+ * - 접속 정보(AlarmPresenceRegistry)로 연결을 가진 다른 노드를 찾아 그 노드의 전용 채널로만 발행합니다.
+ *   (마지막 연결이 끊긴 뒤 replay-horizon 동안은 재연결 대비로 접속 정보가 유지되어, 그 노드의 재전송 링에 기록됩니다.)
+ *   접속 정보를 쓸 수 없으면 공용 채널로 모든 노드에 발행합니다.
+ * - 그룹 알림은 멤버가 여러 노드에 흩어져 있으므로 항상 공용 채널로 발행합니다.
+ * - 연결이 어느 노드에도 없으면 메시지는 버려집니다. (알림 자체는 알림 서버에 저장되어 목록 조회로 확인 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmClusterRelay {
+
+    private final AlarmClusterProperties properties;
+    private final AlarmSendService alarmSendService;
+    private final UnreadCounter unreadCounter;
+    private final NotificationListCache listCache;
+    private final SseGroupIndex groupIndex;
+    private final AlarmPresenceRegistry presenceRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message.getBody()),
+            List.of(new ChannelTopic(properties.getRelayChannel()),
+                new ChannelTopic(properties.nodeChannel(properties.getNodeId()))));
+        log.info("[INFO] 알림 중계 채널 구독 - nodeId: {}, channel: {}",
+            properties.getNodeId(), properties.getRelayChannel());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 사용자가 접속 중인(또는 재연결 대기 중인) 다른 노드로 알림을 발행합니다.
+     */
+    public void publish(String targetId, long eventId, String payload, Long unreadCount) {
+        AlarmRelayMessage message =
+            new AlarmRelayMessage(properties.getNodeId(), targetId, null, eventId, payload, unreadCount);
+        List<String> owners = presenceRegistry.isEnabled() ? presenceRegistry.remoteOwners(targetId) : null;
+        if (owners == null) {
+            send(properties.getRelayChannel(), message);
+            return;
+        }
+        if (owners.isEmpty()) {
+            log.debug("[SSE][RELAY-SKIP] 접속 중인 다른 노드 없음 - targetId={}", targetId);
+            return;
+        }
+        for (String owner : owners) {
+            send(properties.nodeChannel(owner), message);
+        }
+    }
+
+    /**
+     * 그룹 알림은 멤버가 여러 노드에 흩어져 있으므로 로컬 전송 결과와 무관하게 항상 발행합니다.
+     */
+    public void publishGroup(String group, long eventId, String payload) {
+        send(properties.getRelayChannel(),
+            new AlarmRelayMessage(properties.getNodeId(), null, group, eventId, payload, null));
+    }
+
+    private void send(String channel, AlarmRelayMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+            log.debug("[SSE][RELAY-PUBLISH] targetId={}, group={}, channel={}",
+                message.targetId(), message.group(), channel);
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 중계 발행 실패 - targetId: {}, group: {}, reason: {}",
+                message.targetId(), message.group(), e.getMessage());
+        }
+    }
+
+    private void onMessage(byte[] body) {
+        try {
+            AlarmRelayMessage message = objectMapper.readValue(
+                new String(body, StandardCharsets.UTF_8), AlarmRelayMessage.class);
+            if (properties.getNodeId().equals(message.origin())) {
+                return;
+            }
+            if (message.group() != null) {
+                alarmSendService.sendGroupPayload(message.group(), message.eventId(), message.payload());
+                listCache.invalidateAll(groupIndex.members(message.group()));
+                if (unreadCounter.isEnabled()) {
+                    unreadCounter.reconcileGroupAsync(message.group());
+                }
+            } else if (alarmSendService.sendAlarmPayload(message.targetId(), message.eventId(), message.payload())) {
+                log.info("[SSE][RELAY-DELIVERED] targetId={}, origin={}", message.targetId(), message.origin());
+                if (message.unreadCount() != null) {
+                    alarmSendService.sendUnreadCount(message.targetId(), message.unreadCount());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 중계 메시지 처리 실패 - reason: {}", e.getMessage());
+        }
+    }
+}
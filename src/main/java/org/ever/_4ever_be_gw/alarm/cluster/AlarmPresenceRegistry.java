@@ -0,0 +1,195 @@
+package org.ever._4ever_be_gw.alarm.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.sse.AlarmSseProperties;
+import org.ever._4ever_be_gw.alarm.sse.SseConnectionRegistry;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 → 게이트웨이 노드 접속 정보 (Redis)
+ * - 사용자별 해시(presence:user:{userId})에 접속 중인 노드와 임대 만료 시각을 기록합니다. (여러 노드에 탭이 나뉠 수 있음)
+ * - 임대 갱신은 사용자마다가 아니라 노드 단위로, 주기마다 로컬 사용자 전체를 한 번의 파이프라인으로 갱신합니다.
+ * - 첫 연결/마지막 연결 종료 시점에는 바로 반영하되, 같은 단일 스레드에서 현재 로컬 상태를 다시 보고 쓰므로 순서가 뒤바뀌어도 결과가 같습니다.
+ * - 마지막 연결이 끊겨도 접속 정보를 바로 지우지 않고 replay-horizon 동안 유지합니다.
+ *   이 노드는 그동안 재전송 링을 유지하므로, 재연결 사이에 도착한 알림도 중계받아 기록해 두었다가 재전송합니다.
+ * - 노드 목록(presence:nodes, score=임대 만료 시각)과 노드별 접속자 수(presence:node:{nodeId})는 관리용 조회에 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmPresenceRegistry {
+
+    private final AlarmClusterProperties properties;
+    private final AlarmSseProperties sseProperties;
+    private final SseConnectionRegistry connectionRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("alarm-presence-");
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::heartbeat, properties.getPresenceHeartbeatInterval());
+        log.info("[INFO] 알림 접속 정보 등록 시작 - nodeId: {}, leaseMs: {}",
+            properties.getNodeId(), properties.getPresenceLease().toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        // 임대 만료를 기다리지 않고 이 노드의 접속 정보를 바로 제거
+        List<String> userIds = new ArrayList<>(connectionRegistry.userIds());
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String userId : userIds) {
+                    redis.hDel(userKey(userId), properties.getNodeId());
+                }
+                redis.zRem(nodesKey(), properties.getNodeId());
+                redis.del(nodeKey(properties.getNodeId()));
+                return null;
+            });
+            log.info("[INFO] 종료 전 알림 접속 정보 제거 완료 - users: {}", userIds.size());
+        } catch (Exception e) {
+            log.warn("[WARN] 종료 전 알림 접속 정보 제거 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.isPresenceEnabled();
+    }
+
+    /**
+     * 사용자의 로컬 연결 상태가 바뀌었을 때(첫 연결, 마지막 연결 종료) 호출합니다.
+     */
+    public void sync(String userId) {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.execute(() -> {
+            try {
+                // 연결이 모두 끊긴 사용자는 재전송 링이 남아 있는 replay-horizon 동안 접속 정보를 유지
+                long expiresAt = connectionRegistry.get(userId).isEmpty()
+                    ? Instant.now().plus(sseProperties.getReplayHorizon()).toEpochMilli()
+                    : leaseExpiresAt();
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    renew((StringRedisConnection) connection, userId, expiresAt);
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[WARN] 알림 접속 정보 반영 실패 - userId: {}, reason: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 사용자가 접속 중인 다른 노드 목록을 반환합니다. 조회에 실패하면 null (호출 측에서 전체 중계로 대체)
+     */
+    public List<String> remoteOwners(String userId) {
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(userKey(userId));
+            long now = System.currentTimeMillis();
+            List<String> owners = new ArrayList<>(entries.size());
+            entries.forEach((nodeId, expiresAt) -> {
+                if (!properties.getNodeId().equals(nodeId) && Long.parseLong((String) expiresAt) > now) {
+                    owners.add((String) nodeId);
+                }
+            });
+            return owners;
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 접속 정보 조회 실패 - userId: {}, reason: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 살아 있는 노드별 접속 사용자 수 (마지막 갱신 시점 기준)
+     */
+    public Map<String, Long> onlineUsersByNode() {
+        Set<String> nodeIds = stringRedisTemplate.opsForZSet()
+            .rangeByScore(nodesKey(), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return counts;
+        }
+        List<String> nodes = new ArrayList<>(nodeIds);
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(nodes.stream().map(this::nodeKey).toList());
+        for (int i = 0; i < nodes.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            counts.put(nodes.get(i), value != null ? Long.parseLong(value) : 0L);
+        }
+        return counts;
+    }
+
+    // 로컬 사용자 전체의 임대를 한 번에 갱신
+    private void heartbeat() {
+        List<String> userIds = new ArrayList<>(connectionRegistry.userIds());
+        long expiresAt = leaseExpiresAt();
+        String nodeId = properties.getNodeId();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String userId : userIds) {
+                    renew(redis, userId, expiresAt);
+                }
+                redis.zAdd(nodesKey(), expiresAt, nodeId);
+                redis.zRemRangeByScore(nodesKey(), Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+                redis.pSetEx(nodeKey(nodeId), properties.getPresenceLease().toMillis(),
+                    Integer.toString(userIds.size()));
+                return null;
+            });
+            log.debug("[SSE][PRESENCE-HEARTBEAT] nodeId={}, users={}", nodeId, userIds.size());
+        } catch (Exception e) {
+            log.warn("[WARN] 알림 접속 정보 갱신 실패 - nodeId: {}, reason: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private void renew(StringRedisConnection redis, String userId, long expiresAt) {
+        String key = userKey(userId);
+        redis.hSet(key, properties.getNodeId(), Long.toString(expiresAt));
+        redis.pExpire(key, keyRetentionMillis());
+    }
+
+    // 사용자 해시 키 보존 기간 (노드별 항목 중 가장 긴 임대/재연결 대기 기간 이상)
+    private long keyRetentionMillis() {
+        return Math.max(properties.getPresenceLease().toMillis(), sseProperties.getReplayHorizon().toMillis());
+    }
+
+    private long leaseExpiresAt() {
+        return Instant.now().plus(properties.getPresenceLease()).toEpochMilli();
+    }
+
+    private String userKey(String userId) {
+        return properties.getPresenceKeyPrefix() + "user:" + userId;
+    }
+
+    private String nodeKey(String nodeId) {
+        return properties.getPresenceKeyPrefix() + "node:" + nodeId;
+    }
+
+    private String nodesKey() {
+        return properties.getPresenceKeyPrefix() + "nodes";
+    }
+}
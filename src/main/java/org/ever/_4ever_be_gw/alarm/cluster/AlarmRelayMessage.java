@@ -0,0 +1,16 @@
+package org.ever._4ever_be_gw.alarm.cluster;
+
+/**
+ * 노드 간 중계 메시지
+ * - payload 는 SSE 로 그대로 내보낼 직렬화된 알림 JSON 입니다. (수신 노드에서 다시 직렬화하지 않음)
+ *
+ * @param origin   발행 노드 ID (자기 자신이 발행한 메시지는 무시)
+ * @param targetId 수신 사용자 ID, group 이 있으면 무시
+ * @param group    그룹 알림이면 그룹 키 (SseGroups), 개인 알림이면 null
+ * @param eventId  SSE 이벤트 ID (발행 노드에서 발급, 모든 노드의 재전송 링에서 같은 ID 로 기록)
+ * @param payload  SSE data 로 전송할 JSON
+ * @param unreadCount 개인 알림 반영 후 안 읽은 개수 (카운터가 없으면 null)
+ */
+public record AlarmRelayMessage(String origin, String targetId, String group, long eventId, String payload,
+                                Long unreadCount) {
+}
@@ -6,17 +6,25 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ever._4ever_be_gw.alarm.dto.request.NotificationMarkReadRequestDto;
 import org.ever._4ever_be_gw.alarm.service.AlarmHttpService;
 import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.alarm.sse.SseAdmissionController;
+import org.ever._4ever_be_gw.alarm.sse.SseFrames;
+import org.ever._4ever_be_gw.alarm.sse.SseGroups;
+import org.ever._4ever_be_gw.alarm.unread.UnreadCounter;
 import org.ever._4ever_be_gw.common.dto.validation.AllowedValues;
 import org.ever._4ever_be_gw.common.dto.validation.ValidUuidV7;
 import org.ever._4ever_be_gw.config.security.principal.EverJwtAuthenticationToken;
 import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -24,10 +32,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/alarm/notifications")
@@ -42,6 +52,8 @@ public class AlarmController {
 
     private final AlarmHttpService alarmHttpService;
     private final AlarmSendService alarmSendService;
+    private final UnreadCounter unreadCounter;
+    private final SseAdmissionController admissionController;
 
     // ===== 알림 목록 조회 =====
     @GetMapping("/list")
@@ -124,11 +136,12 @@ public class AlarmController {
     }
 
     // ===== 알림 구독 요청 =====
-    @GetMapping("/subscribe")
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "알림 구독 요청", description = "SSE를 통해 실시간 알림을 구독합니다.")
-    public SseEmitter subscribe(
+    public Flux<ServerSentEvent<String>> subscribe(
         @AuthenticationPrincipal EverUserPrincipal principal,
         EverJwtAuthenticationToken authentication,
+        @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
         HttpServletRequest request
     ) {
         final String token = (authentication != null && authentication.getToken() != null)
@@ -140,16 +153,34 @@ public class AlarmController {
 
         UUID userId = UUID.fromString(principal.getUserId());
 
-        log.info("[SSE][SUBSCRIBE-REQUEST] userId={}, remoteAddr={}",
-            userId, request.getRemoteAddr());
-
-        // SSE Emitter 추가 후 그대로 반환 (연결 유지)
-        SseEmitter emitter = alarmSendService.addEmitter(userId.toString());
+        log.info("[SSE][SUBSCRIBE-REQUEST] userId={}, remoteAddr={}, lastEventId={}",
+            userId, request.getRemoteAddr(), lastEventId);
+
+        // 구독 허용량 초과 시 스트림을 바로 닫고, 임의의 retry 간격 뒤 재연결하도록 안내
+        long admissionDelay = admissionController.reserve();
+        if (admissionDelay == SseAdmissionController.REJECTED) {
+            log.info("[SSE][SUBSCRIBE-DEFERRED] 구독 허용량 초과 - userId={}", userId);
+            return Flux.just(SseFrames.retryLater(admissionController.randomRetry()));
+        }
+
+        Set<String> groups = SseGroups.of(principal);
+        Flux<ServerSentEvent<String>> stream = Flux.defer(() -> openStream(userId.toString(), groups, lastEventId));
+        if (admissionDelay > 0) {
+            log.debug("[SSE][SUBSCRIBE-DELAYED] userId={}, delayMs={}", userId, admissionDelay);
+            return Mono.delay(Duration.ofMillis(admissionDelay)).thenMany(stream);
+        }
+        return stream;
+    }
 
-        log.info("[SSE][SUBSCRIBE-SUCCESS] userId={}, emitterHash={}",
-            userId, System.identityHashCode(emitter));
+    private Flux<ServerSentEvent<String>> openStream(String userId, Set<String> groups, String lastEventId) {
+        // 논블로킹 SSE 스트림 반환 (연결 유지, 전송은 스트림에 프레임을 넣는 방식)
+        Flux<ServerSentEvent<String>> stream = alarmSendService.subscribe(userId, groups, lastEventId);
 
-        return emitter;
+        // 연결 직후 안 읽은 개수를 알림 서버 값으로 맞춰 SSE 로 전달 (별도 /count 호출 불필요)
+        if (unreadCounter.isEnabled()) {
+            unreadCounter.reconcileAsync(userId);
+        }
+        return stream;
     }
 
     // ===== 알림 읽음 처리 (목록) =====
@@ -0,0 +1,73 @@
+package org.ever._4ever_be_gw.alarm.controller;
+
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_DLQ_TOPIC;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.dto.response.DlqReplayResponseDto;
+import org.ever._4ever_be_gw.common.response.ApiResponse;
+import org.ever._4ever_be_gw.infrastructure.kafka.handler.DeadLetterQueueHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/alarm/admin/dlq")
+@Validated
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "알림 관리", description = "알림 발송 DLQ 재처리 API")
+public class AlarmDeadLetterController {
+
+    private static final int MAX_REPLAY_SECONDS = 60;
+
+    private final DeadLetterQueueHandler deadLetterQueueHandler;
+
+    // ===== 알림 발송 DLQ 재처리 =====
+    @PostMapping("/replay")
+    @PreAuthorize("hasAuthority('ALL_ADMIN')")
+    @Operation(summary = "알림 발송 DLQ 재처리",
+        description = "alarm-sent.dlq 의 메시지를 초당 ratePerSecond 건 이하로 원래 토픽에 다시 발행합니다.")
+    public ResponseEntity<ApiResponse<DlqReplayResponseDto>> replay(
+        @Min(value = 1, message = "limit 는 1 이상이어야 합니다.")
+        @Max(value = 1000, message = "limit 는 최대 1000 입니다.")
+        @RequestParam(name = "limit", defaultValue = "100")
+        Integer limit,
+
+        @Min(value = 1, message = "ratePerSecond 는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "ratePerSecond 는 최대 100 입니다.")
+        @RequestParam(name = "ratePerSecond", defaultValue = "10")
+        Integer ratePerSecond
+    ) {
+        log.info("[KAFKA][DLQ-REPLAY] 재처리 요청 - topic: {}, limit: {}, ratePerSecond: {}",
+            ALARM_SENT_DLQ_TOPIC, limit, ratePerSecond);
+
+        // 요청 스레드에서 동기로 재발행하므로 한 번에 최대 MAX_REPLAY_SECONDS 분량만 허용
+        if (limit > ratePerSecond * MAX_REPLAY_SECONDS) {
+            return ResponseEntity.badRequest().body(ApiResponse.fail(
+                "limit 는 ratePerSecond × " + MAX_REPLAY_SECONDS + " 이하여야 합니다.", HttpStatus.BAD_REQUEST, null));
+        }
+
+        try {
+            int replayed = deadLetterQueueHandler.replay(ALARM_SENT_DLQ_TOPIC, limit, ratePerSecond);
+            DlqReplayResponseDto data = DlqReplayResponseDto.builder()
+                .dlqTopic(ALARM_SENT_DLQ_TOPIC)
+                .replayedCount(replayed)
+                .build();
+            return ResponseEntity.ok(ApiResponse.success(data, "DLQ 메시지를 재처리했습니다.", HttpStatus.OK));
+
+        } catch (IllegalStateException e) {
+            HttpStatus status = e.getCause() == null ? HttpStatus.CONFLICT : HttpStatus.INTERNAL_SERVER_ERROR;
+            return ResponseEntity.status(status).body(ApiResponse.fail(e.getMessage(), status, null));
+        }
+    }
+}
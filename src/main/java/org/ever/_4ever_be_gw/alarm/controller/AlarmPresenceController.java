@@ -0,0 +1,49 @@
+package org.ever._4ever_be_gw.alarm.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.cluster.AlarmPresenceRegistry;
+import org.ever._4ever_be_gw.alarm.dto.response.AlarmPresenceResponseDto;
+import org.ever._4ever_be_gw.common.response.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/alarm/admin/presence")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "알림 관리", description = "알림 SSE 접속 현황 API")
+public class AlarmPresenceController {
+
+    private final AlarmPresenceRegistry presenceRegistry;
+
+    // ===== 노드별 접속 사용자 수 조회 =====
+    @GetMapping
+    @PreAuthorize("hasAuthority('ALL_ADMIN')")
+    @Operation(summary = "노드별 접속 현황", description = "게이트웨이 노드별 SSE 접속 사용자 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<AlarmPresenceResponseDto>> getPresence() {
+        if (!presenceRegistry.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                ApiResponse.fail("접속 정보 등록이 비활성화되어 있습니다.", HttpStatus.SERVICE_UNAVAILABLE, null)
+            );
+        }
+
+        Map<String, Long> byNode = presenceRegistry.onlineUsersByNode();
+        AlarmPresenceResponseDto data = AlarmPresenceResponseDto.builder()
+            .nodeCount(byNode.size())
+            .onlineUsers(byNode.values().stream().mapToLong(Long::longValue).sum())
+            .onlineUsersByNode(byNode)
+            .build();
+
+        log.info("[SSE][PRESENCE] 노드별 접속 현황 조회 - nodes: {}, onlineUsers: {}",
+            data.getNodeCount(), data.getOnlineUsers());
+        return ResponseEntity.ok(ApiResponse.success(data, "노드별 접속 현황을 조회했습니다.", HttpStatus.OK));
+    }
+}
@@ -0,0 +1,18 @@
+package org.ever._4ever_be_gw.alarm.dto.response;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AlarmPresenceResponseDto {
+
+    // 살아 있는 노드 수와 전체 접속 사용자 수 (여러 노드에 동시 접속한 사용자는 노드마다 집계)
+    private int nodeCount;
+    private long onlineUsers;
+
+    // 노드별 접속 사용자 수 (마지막 임대 갱신 시점 기준)
+    private Map<String, Long> onlineUsersByNode;
+
+}
@@ -0,0 +1,13 @@
+package org.ever._4ever_be_gw.alarm.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DlqReplayResponseDto {
+
+    private String dlqTopic;
+    private int replayedCount;
+
+}
@@ -1,25 +1,31 @@
 package org.ever._4ever_be_gw.alarm.service;
 
+import java.util.Set;
 import org.ever.event.AlarmSentEvent;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 
 public interface AlarmSendService {
 
-    // 사용자별 SseEmitter 추가
-    SseEmitter addEmitter(String userId);
+    // 사용자별 SSE 스트림 구독 (연결 종료 시 자동 해제), lastEventId 이후 누락 알림을 먼저 재전송
+    // groups 는 그룹 알림 수신용 소속 그룹 키 (SseGroups)
+    Flux<ServerSentEvent<String>> subscribe(String userId, Set<String> groups, String lastEventId);
 
-    // 사용자별 SseEmitter 제거
-    void removeEmitter(String userId);
+    // 사용자별 SSE 연결 종료
+    void disconnect(String userId);
 
-    // 사용자별 알림 메시지 전송 (event: notification)
-    void sendAlarmMessage(AlarmSentEvent event);
+    // 사용자별 알림 메시지 전송 (event: notification), 이 노드에 연결이 있어 전송했으면 true
+    boolean sendAlarmMessage(AlarmSentEvent event);
+
+    // 직렬화된 알림 JSON 전송 (eventId 는 SSE id), 이 노드의 연결로 전송했으면 true
+    boolean sendAlarmPayload(String userId, long eventId, String payload);
+
+    // 그룹 소속 사용자 전체에 직렬화된 알림 JSON 전송, 이 노드에서 전송한 사용자 수 반환
+    int sendGroupPayload(String group, long eventId, String payload);
 
     // 사용자별 keepalive 전송 (event: keepalive)
     void sendKeepAlive(String userId);
 
-    // 전체 브로드캐스트 keepalive (event: keepalive)
-    void broadcastKeepAlive();
-
     // 사용자별 안 읽은 개수 전송 (event: unreadCount)
     void sendUnreadCount(String userId, long unreadCount);
 }
@@ -4,16 +4,22 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.cache.NotificationListCache;
 import org.ever._4ever_be_gw.alarm.dto.request.AlarmServerRequestDto;
 import org.ever._4ever_be_gw.alarm.dto.request.AlarmServerRequestDto.NotificationMarkReadOneRequest;
 import org.ever._4ever_be_gw.alarm.dto.request.NotificationFcmTokenRequestDto;
 import org.ever._4ever_be_gw.alarm.dto.request.NotificationMarkReadRequestDto;
+import org.ever._4ever_be_gw.alarm.dto.response.NotificationCountResponseDto;
+import org.ever._4ever_be_gw.alarm.dto.response.NotificationReadResponseDto;
 import org.ever._4ever_be_gw.alarm.service.AlarmHttpService;
+import org.ever._4ever_be_gw.alarm.unread.MarkReadBuffer;
+import org.ever._4ever_be_gw.alarm.unread.UnreadCounter;
 import org.ever._4ever_be_gw.alarm.util.AlarmDtoConverter;
 import org.ever._4ever_be_gw.common.response.ApiResponse;
 import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
 import org.ever._4ever_be_gw.config.webclient.WebClientProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -25,6 +31,9 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 public class AlarmHttpServiceImpl implements AlarmHttpService {
 
     private final WebClientProvider webClientProvider;
+    private final UnreadCounter unreadCounter;
+    private final MarkReadBuffer markReadBuffer;
+    private final NotificationListCache listCache;
 
     @Override
     public ResponseEntity<Object> getNotificationList(
@@ -42,6 +51,11 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
             UUID.fromString(userId), sortBy, order, source, page, size
         );
 
+        // 첫 페이지는 사용자/필터별 캐시 바이트로 응답
+        if (listCache.isEnabled() && request.getPage() == 0) {
+            return getFirstPage(userId, request);
+        }
+
         try {
             WebClient alarmWebClient = webClientProvider.getWebClient(ApiClientKey.ALARM);
 
@@ -76,6 +90,56 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
         }
     }
 
+    private ResponseEntity<Object> getFirstPage(
+        String userId,
+        AlarmServerRequestDto.NotificationListRequest request
+    ) {
+        String field = NotificationListCache.field(
+            request.getSource(), request.getSortBy(), request.getOrder(), request.getSize());
+        byte[] cached = listCache.get(userId, field);
+        if (cached != null) {
+            log.debug("알림 목록 캐시 적중 - userId: {}, field: {}", userId, field);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached);
+        }
+
+        try {
+            String generation = listCache.generation(userId);
+            WebClient alarmWebClient = webClientProvider.getWebClient(ApiClientKey.ALARM);
+
+            byte[] serverResponse = alarmWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/notifications/list/{userId}")
+                    .queryParamIfPresent("sortBy", Optional.ofNullable(request.getSortBy()))
+                    .queryParamIfPresent("order", Optional.ofNullable(request.getOrder()))
+                    .queryParamIfPresent("source", Optional.ofNullable(request.getSource()))
+                    .queryParam("page", 0)
+                    .queryParamIfPresent("size", Optional.ofNullable(request.getSize()))
+                    .build(userId)
+                )
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .block();
+
+            log.info("알림 목록 조회 성공 - userId: {}", request.getUserId());
+
+            if (serverResponse != null) {
+                listCache.store(userId, field, generation, serverResponse);
+            }
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(serverResponse);
+
+        } catch (WebClientResponseException ex) {
+            handleWebClientError("알림 목록 조회", ex);
+            HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+            return ResponseEntity.status(status).body(
+                ApiResponse.fail("알림 목록 조회 중 오류가 발생했습니다.", status, null)
+            );
+        } catch (Exception e) {
+            log.error("알림 목록 조회 중 예기치 않은 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                ApiResponse.fail("알림 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, null)
+            );
+        }
+    }
+
     @Override
     public ResponseEntity<Object> getNotificationCount(
         String userId,
@@ -83,6 +147,22 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
     ) {
         log.debug("알림 갯수 조회 요청 - userId: {}, status: {}", userId, status);
 
+        // 안 읽은 개수는 게이트웨이 카운터로 응답 (카운터를 채울 수 없으면 기존처럼 알림 서버 응답 전달)
+        if ("UNREAD".equalsIgnoreCase(status) && unreadCounter.isEnabled()) {
+            try {
+                Long unread = unreadCounter.getOrLoad(userId);
+                if (unread != null) {
+                    NotificationCountResponseDto dto = NotificationCountResponseDto.builder()
+                        .count(Math.toIntExact(unread))
+                        .build();
+                    return ResponseEntity.ok(ApiResponse.success(dto, "알림 갯수 조회 성공", HttpStatus.OK));
+                }
+            } catch (Exception e) {
+                log.warn("[WARN] 안 읽은 알림 카운터 조회 실패, 알림 서버로 조회 - userId: {}, reason: {}",
+                    userId, e.getMessage());
+            }
+        }
+
         AlarmServerRequestDto.NotificationCountRequest request = AlarmDtoConverter.toCountServerRequest(
             UUID.fromString(userId), status
         );
@@ -144,6 +224,12 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
             log.info("알림 읽음 처리 성공 - userId: {}, processedCount: {}",
                 request.getUserId(), notificationMarkReadRequestDto.getNotificationId().size());
 
+            listCache.invalidate(userId);
+            // 이미 읽은 알림이 섞여 있으면 실제보다 많이 줄 수 있으나 주기적 재조정으로 맞춰짐
+            if (unreadCounter.isEnabled()) {
+                unreadCounter.addAndPush(userId, -notificationMarkReadRequestDto.getNotificationId().size());
+            }
+
             return ResponseEntity.ok(serverResponse);
 
         } catch (WebClientResponseException ex) {
@@ -182,6 +268,11 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
 
             log.info("전체 알림 읽음 처리 성공 - userId: {}", userId);
 
+            listCache.invalidate(userId);
+            if (unreadCounter.isEnabled()) {
+                unreadCounter.set(userId, 0);
+            }
+
             return ResponseEntity.ok(serverResponse);
 
         } catch (WebClientResponseException ex) {
@@ -207,6 +298,19 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
         log.debug("단일 알림 읽음 처리 요청 - userId: {}, notificationId: {}",
             userId, notificationId);
 
+        // 지연 쓰기: 짧은 시간 동안 모은 요청을 목록 읽음 처리 한 번으로 전송
+        // 알림 서버 반영(존재/소유 확인) 전이므로 처리 완료가 아닌 접수(202, processedCount 0)로 응답
+        if (markReadBuffer.isEnabled()) {
+            if (markReadBuffer.add(userId, notificationId) && unreadCounter.isEnabled()) {
+                unreadCounter.addAndPush(userId, -1);
+            }
+            NotificationReadResponseDto dto = NotificationReadResponseDto.builder()
+                .processedCount(0)
+                .build();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(dto, "단일 알림 읽음 처리 요청 접수", HttpStatus.ACCEPTED));
+        }
+
         AlarmServerRequestDto.NotificationMarkReadOneRequest request =
             NotificationMarkReadOneRequest.builder()
                 .userId(UUID.fromString(userId))
@@ -223,6 +327,11 @@ public class AlarmHttpServiceImpl implements AlarmHttpService {
                 .block();
 
             log.info("단일 알림 읽음 처리 성공");
+
+            listCache.invalidate(userId);
+            if (unreadCounter.isEnabled()) {
+                unreadCounter.addAndPush(userId, -1);
+            }
             return ResponseEntity.ok(serverResponse);
 
         } catch (WebClientResponseException ex) {
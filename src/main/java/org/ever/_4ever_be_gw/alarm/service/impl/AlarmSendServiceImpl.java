@@ -2,202 +2,222 @@ package org.ever._4ever_be_gw.alarm.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.cluster.AlarmPresenceRegistry;
 import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.alarm.sse.AlarmSseProperties;
+import org.ever._4ever_be_gw.alarm.sse.SseAdmissionController;
+import org.ever._4ever_be_gw.alarm.sse.SseBurstCoalescer;
+import org.ever._4ever_be_gw.alarm.sse.SseConnection;
+import org.ever._4ever_be_gw.alarm.sse.SseConnectionRegistry;
+import org.ever._4ever_be_gw.alarm.sse.SseEventIds;
+import org.ever._4ever_be_gw.alarm.sse.SseFrames;
+import org.ever._4ever_be_gw.alarm.sse.SseGroupIndex;
+import org.ever._4ever_be_gw.alarm.sse.SseKeepAliveScheduler;
+import org.ever._4ever_be_gw.alarm.sse.SseQueueMetrics;
+import org.ever._4ever_be_gw.alarm.sse.SseReplayStore;
 import org.ever.event.AlarmSentEvent;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AlarmSendServiceImpl implements AlarmSendService {
 
-    private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1 hour
-
-    private final Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
+    private final SseConnectionRegistry connectionRegistry;
+    private final SseReplayStore replayStore;
+    private final SseKeepAliveScheduler keepAliveScheduler;
+    private final SseQueueMetrics queueMetrics;
+    private final SseGroupIndex groupIndex;
+    private final SseBurstCoalescer burstCoalescer;
     private final ObjectMapper objectMapper;
+    private final AlarmSseProperties properties;
+    private final SseAdmissionController admissionController;
+    private final AlarmPresenceRegistry presenceRegistry;
 
     @Override
-    public SseEmitter addEmitter(String userId) {
-        log.info("[SSE][EMITTER-ADD-START] userId={}", userId);
-
-        // 이미 존재하는 Emitter가 있다면 제거
-        SseEmitter existingEmitter = emitterMap.remove(userId);
-        if (existingEmitter != null) {
-            log.info("[SSE][EMITTER-REPLACE] 기존 Emitter 제거 - userId={}, oldEmitterHash={}",
-                userId, System.identityHashCode(existingEmitter));
-            try {
-                log.warn("기존 SSE Emitter가 존재하여 종료 처리 - UserId: {}, oldEmitterHash={}",
-                    userId, System.identityHashCode(existingEmitter));
-                existingEmitter.complete();
-            } catch (Exception e) {
-                log.warn("기존 SSE Emitter 종료 중 오류 - UserId: {}, oldEmitterHash={}",
-                    userId, System.identityHashCode(existingEmitter), e);
-            }
+    public Flux<ServerSentEvent<String>> subscribe(String userId, Set<String> groups, String lastEventId) {
+        log.info("[SSE][CONNECTION-ADD-START] userId={}, groups={}, lastEventId={}", userId, groups, lastEventId);
+
+        // 재전송 스냅샷보다 먼저 연결을 등록해 그 사이 프레임이 빠지지 않도록 함 (중복은 아래에서 제거)
+        replayStore.open(userId);
+        SseConnection connection = new SseConnection(userId, groups, properties.getSendBufferSize(),
+            properties.getOverflowPolicy(), queueMetrics);
+
+        // 사용자당 연결 수 상한을 넘으면 가장 오래된 연결부터 종료 (다른 탭의 연결은 유지)
+        for (SseConnection evicted : connectionRegistry.register(connection, properties.getMaxConnectionsPerUser())) {
+            log.info("[SSE][CONNECTION-EVICT] 연결 수 상한 초과로 기존 연결 종료 - userId={}, oldConnectionId={}",
+                userId, evicted.getId());
+            evicted.close();
+        }
+        keepAliveScheduler.register(connection);
+        groupIndex.add(connection);
+        if (connectionRegistry.get(userId).size() == 1) {
+            presenceRegistry.sync(userId);
         }
 
-        // 새로운 Emitter 생성
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        final int emitterHash = System.identityHashCode(emitter);
-        log.debug("[SSE][EMITTER-CREATED] userId={}, emitterHash={}, timeoutMs={}",
-            userId, emitterHash, DEFAULT_TIMEOUT);
-
-        // 완료 콜백 등록
-        emitter.onCompletion(() -> {
-            log.info("[SSE][EMITTER-COMPLETED] userId={}, emitterHash={}", userId, emitterHash);
-            emitterMap.remove(userId);
-        });
-
-        // 타임아웃 콜백 등록
-        emitter.onTimeout(() -> {
-            log.warn("[SSE][EMITTER-TIMEOUT] userId={}, emitterHash={}", userId, emitterHash);
-            emitterMap.remove(userId);
-            log.warn("[SSE][EMITTER-TIMEOUT-COMPLETE] userId={}, emitterHash={}",
-                userId, emitterHash);
-            emitter.complete();
-        });
-
-        // 에러 콜백 등록
-        emitter.onError((ex) -> {
-            log.error("[SSE][EMITTER-ERROR] userId={}, emitterHash={}, msg={}",
-                userId, emitterHash, ex.getMessage(), ex);
-            emitterMap.remove(userId);
-        });
-
-        // Emitter 저장
-        emitterMap.put(userId, emitter);
-        log.info("[SSE][EMITTER-ADD-END] userId={}, emitterHash={}, activeConnections={}",
-            userId, emitterHash, emitterMap.size());
-
-        // 초기 keep-alive 이벤트 전송 (연결 즉시 수립 확인)
-        try {
-            SseEmitter.SseEventBuilder initEvent = SseEmitter.event()
-                .name("keepalive")
-                .data("connected");
-            emitter.send(initEvent);
-
-            log.debug("[SSE][INIT-EVENT-SENT] userId={}, emitterHash={}, event=keepalive",
-                userId, emitterHash);
-        } catch (Exception e) {
-            log.warn("[SSE][INIT-EVENT-FAIL] userId={}, emitterHash={}, msg={}",
-                userId, emitterHash, e.getMessage(), e);
-
-            emitterMap.remove(userId);
+        log.info("[SSE][CONNECTION-ADD-END] userId={}, connectionId={}, userConnections={}, activeConnections={}",
+            userId, connection.getId(), connectionRegistry.get(userId).size(), connectionRegistry.connectionCount());
+
+        // 초기 keep-alive 이벤트로 연결 즉시 수립 확인 → 누락 프레임 재전송 → 실시간 프레임
+        // retry 간격과 유지 시간을 연결마다 다르게 해 만료/재연결 시점을 흩뜨림
+        Flux<ServerSentEvent<String>> head = Flux.just(SseFrames.connected(admissionController.randomRetry()));
+        Flux<ServerSentEvent<String>> live = connection.flux();
+        Long lastId = SseEventIds.parse(lastEventId);
+        if (lastId != null) {
+            List<SseReplayStore.Entry> missed = replayStore.since(userId, lastId);
+            if (missed == null) {
+                log.info("[SSE][REPLAY-UNAVAILABLE] userId={}, lastEventId={}", userId, lastId);
+                head = head.concatWith(Flux.just(SseFrames.RESYNC));
+            } else if (!missed.isEmpty()) {
+                long replayedUpTo = missed.get(missed.size() - 1).eventId();
+                log.info("[SSE][REPLAY] userId={}, lastEventId={}, frames={}", userId, lastId, missed.size());
+                head = head.concatWith(Flux.fromIterable(missed).map(SseReplayStore.Entry::event));
+                live = live.filter(event -> event.id() == null || Long.parseLong(event.id()) > replayedUpTo);
+            }
         }
 
-        return emitter;
+        // 최대 유지 시간이 지나면 정상 종료
+        return Flux.concat(head, live)
+            .take(admissionController.jitteredLifetime())
+            .doFinally(signal -> {
+                connectionRegistry.unregister(connection);
+                keepAliveScheduler.unregister(connection);
+                groupIndex.remove(connection);
+                replayStore.close(userId);
+                if (connectionRegistry.get(userId).isEmpty()) {
+                    presenceRegistry.sync(userId);
+                }
+                log.info("[SSE][CONNECTION-CLOSED] userId={}, connectionId={}, signal={}",
+                    userId, connection.getId(), signal);
+            });
     }
 
     @Override
-    public void removeEmitter(String userId) {
-        log.info("SSE Emitter 제거 - UserId: {}", userId);
-        SseEmitter emitter = emitterMap.remove(userId);
-        if (emitter != null) {
-            try {
-                log.warn("SSE Emitter 종료 처리 - UserId: {}", userId);
-                emitter.complete();
-            } catch (Exception e) {
-                log.warn("SSE Emitter 종료 중 오류 - UserId: {}", userId, e);
-            }
-        }
+    public void disconnect(String userId) {
+        log.info("SSE 연결 제거 - UserId: {}", userId);
+        connectionRegistry.unregisterAll(userId).forEach(SseConnection::close);
     }
 
     @Override
-    public void sendAlarmMessage(AlarmSentEvent event) {
+    public boolean sendAlarmMessage(AlarmSentEvent event) {
         log.info("알림 메시지 전송 시작 - AlarmId: {}, Message: {}", event.getAlarmId(), event.getMessage());
 
-        SseEmitter emitter = emitterMap.get(event.getTargetId());
-        if (emitter == null) {
-            log.warn("SSE Emitter를 찾을 수 없음 - targetId: {}", event.getTargetId());
-            return;
-        }
-
         try {
             // 데이터를 JSON으로 변환
-            String jsonData = objectMapper.writeValueAsString(event);
-
-            // SSE 메시지 전송
-            SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
-                .name("alarm")
-                .data(jsonData);
-
-            emitter.send(sseEvent);
-            log.info("알림 메시지 전송 성공 - event=alarm, targetId: {}", event.getTargetId());
-
+            return sendAlarmPayload(event.getTargetId(), SseEventIds.next(), objectMapper.writeValueAsString(event));
         } catch (IOException e) {
-            log.error("알림 메시지 전송 실패 - targetId: {}", event.getTargetId(), e);
-            emitterMap.remove(event.getTargetId());
-            try {
-                log.error("SSE Emitter 에러 처리 - targetId: {}",
-                    event.getTargetId());
-                emitter.completeWithError(e);
-            } catch (Exception ex) {
-                log.warn("SSE Emitter 에러 처리 중 오류 - targetId: {}", event.getTargetId(), e);
-            }
+            log.error("알림 메시지 직렬화 실패 - targetId: {}", event.getTargetId(), e);
+            return false;
         }
     }
 
     @Override
-    public void sendKeepAlive(String userId) {
-        SseEmitter emitter = emitterMap.get(userId);
-        if (emitter == null) {
-            log.debug("[SSE][KEEPALIVE-SKIP] emitter not found - userId={}", userId);
-            return;
+    public boolean sendAlarmPayload(String userId, long eventId, String payload) {
+        ServerSentEvent<String> frame = alarmFrame(eventId, payload);
+
+        // 연결이 잠시 끊긴 사용자도 재연결 시 받을 수 있도록 먼저 기록
+        replayStore.record(userId, eventId, frame);
+
+        if (connectionRegistry.get(userId).isEmpty()) {
+            log.debug("[SSE][ALARM-SKIP] connection not found on this node - targetId={}", userId);
+            return false;
         }
-        try {
-            emitter.send(SseEmitter.event().name("keepalive").data("ping"));
-            log.debug("[SSE][KEEPALIVE-SENT] userId={}", userId);
-        } catch (Exception e) {
-            log.warn("[SSE][KEEPALIVE-FAIL] userId={}, msg={}", userId, e.getMessage(), e);
-            emitterMap.remove(userId);
-            try {
-                emitter.completeWithError(e);
-            } catch (Exception ignore) {
-            }
+
+        // 병합 창이 열려 있으면 보관 후 창이 닫힐 때 묶어서 전송
+        if (burstCoalescer.isEnabled()) {
+            burstCoalescer.offerAlarm(userId, eventId, payload, frame, this::fanOut);
+            return true;
         }
+
+        int delivered = fanOut(userId, frame);
+        if (delivered == 0) {
+            log.error("알림 메시지 전송 실패 - targetId: {}", userId);
+            return false;
+        }
+        log.info("알림 메시지 전송 성공 - event=alarm, targetId: {}, connections: {}", userId, delivered);
+        return true;
     }
 
     @Override
-    @Scheduled(fixedRate = 20000)
-    public void broadcastKeepAlive() {
-//        log.debug("[SSE][BROADCAST-KEEPALIVE] activeConnections={}", emitterMap.size());
-        emitterMap.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().name("keepalive").data("ping"));
-            } catch (Exception e) {
-                log.warn("[SSE][BROADCAST-KEEPALIVE-FAIL] userId={}, msg={}", userId,
-                    e.getMessage(), e);
-                emitterMap.remove(userId);
-                try {
-                    emitter.completeWithError(e);
-                } catch (Exception ignore) {
-                }
-            }
-        });
+    public void sendKeepAlive(String userId) {
+        if (fanOut(userId, SseFrames.PING) > 0) {
+            log.debug("[SSE][KEEPALIVE-SENT] userId={}", userId);
+        } else {
+            log.debug("[SSE][KEEPALIVE-SKIP] connection not found - userId={}", userId);
+        }
     }
 
     @Override
     public void sendUnreadCount(String userId, long unreadCount) {
-        SseEmitter emitter = emitterMap.get(userId);
-        if (emitter == null) {
-            log.debug("[SSE][UNREADCOUNT-SKIP] emitter not found - userId={}", userId);
+        // 알림 병합 창이 열려 있으면 최신 값만 남겨 묶음 프레임에 포함
+        if (burstCoalescer.isEnabled() && burstCoalescer.offerUnreadCount(userId, unreadCount)) {
             return;
         }
-        try {
-            emitter.send(SseEmitter.event().name("unreadCount").data(unreadCount));
+        if (fanOut(userId, SseFrames.unreadCount(unreadCount)) > 0) {
             log.info("[SSE][UNREADCOUNT-SENT] userId={}, count={}", userId, unreadCount);
-        } catch (Exception e) {
-            log.warn("[SSE][UNREADCOUNT-FAIL] userId={}, msg={}", userId, e.getMessage(), e);
-            emitterMap.remove(userId);
-            try {
-                emitter.completeWithError(e);
-            } catch (Exception ignore) {
+        } else {
+            log.debug("[SSE][UNREADCOUNT-SKIP] connection not found - userId={}", userId);
+        }
+    }
+
+    @Override
+    public int sendGroupPayload(String group, long eventId, String payload) {
+        Set<String> members = groupIndex.members(group);
+        if (members.isEmpty()) {
+            log.debug("[SSE][GROUP-SKIP] no members on this node - group={}", group);
+            return 0;
+        }
+
+        // 그룹 전체가 같은 불변 프레임 인스턴스를 공유 (직렬화 1회, 쓰기는 멤버 연결 수만큼)
+        ServerSentEvent<String> frame = alarmFrame(eventId, payload);
+        int deliveredUsers = 0;
+        for (String userId : members) {
+            replayStore.record(userId, eventId, frame);
+            if (burstCoalescer.isEnabled()) {
+                burstCoalescer.offerAlarm(userId, eventId, payload, frame, this::fanOut);
+                deliveredUsers++;
+            } else if (fanOut(userId, frame) > 0) {
+                deliveredUsers++;
             }
         }
+        log.info("그룹 알림 전송 완료 - group: {}, members: {}, delivered: {}", group, members.size(), deliveredUsers);
+        return deliveredUsers;
+    }
+
+    private static ServerSentEvent<String> alarmFrame(long eventId, String payload) {
+        return ServerSentEvent.<String>builder()
+            .id(Long.toString(eventId))
+            .event("alarm")
+            .data(payload)
+            .build();
+    }
+
+    // 한 번 만든 프레임을 사용자의 모든 연결로 전송하고, 전송에 성공한 연결 수를 반환
+    private int fanOut(String userId, ServerSentEvent<String> event) {
+        int delivered = 0;
+        for (SseConnection connection : connectionRegistry.get(userId)) {
+            if (send(connection, event)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    // 큐에 넣지 못하면(DISCONNECT 정책으로 끊김 / 이미 끊긴 연결) 연결을 정리하고 false
+    private boolean send(SseConnection connection, ServerSentEvent<String> event) {
+        if (connection.send(event)) {
+            return true;
+        }
+        log.warn("[SSE][SEND-FAIL] 큐 초과 또는 종료된 연결 정리 - userId={}, connectionId={}",
+            connection.getUserId(), connection.getId());
+        connectionRegistry.unregister(connection);
+        connection.close();
+        return false;
     }
 }
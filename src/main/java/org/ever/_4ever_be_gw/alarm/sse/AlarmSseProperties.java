@@ -0,0 +1,52 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 SSE 스트림 설정 (gateway.alarm.sse)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.alarm.sse")
+public class AlarmSseProperties {
+
+    // 연결 최대 유지 시간, 만료되면 스트림을 정상 종료하고 클라이언트가 재연결
+    private Duration connectionLifetime = Duration.ofHours(1);
+
+    // 연결마다 유지 시간을 0 ~ 이 값만큼 줄여 만료 시점을 흩뜨림 (배포 직후 동시 연결이 같은 시각에 끊기지 않도록)
+    private Duration connectionLifetimeJitter = Duration.ofMinutes(10);
+
+    // 클라이언트 재연결 대기(retry:) = 기본값 + 0 ~ jitter 사이 임의 값
+    private Duration reconnectRetryBase = Duration.ofSeconds(2);
+    private Duration reconnectRetryJitter = Duration.ofSeconds(8);
+
+    // 신규 구독 허용 속도 (토큰 버킷: 초당 허용 수 / 순간 허용량)
+    // 버킷이 비면 최대 admissionMaxDelay 만큼 늦춰서 수락하고, 그보다 밀리면 retry: 만 보내고 종료
+    private double admissionRatePerSecond = 50;
+    private int admissionBurst = 100;
+    private Duration admissionMaxDelay = Duration.ofSeconds(3);
+
+    // 사용자당 동시 연결 수 상한 (초과 시 가장 오래된 연결 종료)
+    private int maxConnectionsPerUser = 5;
+
+    // 연결별 전송 큐 크기와 큐가 가득 찼을 때의 처리 방식
+    private int sendBufferSize = 64;
+    private SseOverflowPolicy overflowPolicy = SseOverflowPolicy.COALESCE;
+
+    // keepalive 주기, 샤드(스레드) 수, 샤드별 타이머 휠 슬롯 수 (주기 / 슬롯 수 = 틱 간격)
+    private Duration keepaliveInterval = Duration.ofSeconds(20);
+    private int keepaliveShards = 4;
+    private int keepaliveWheelSlots = 20;
+
+    // 사용자별 알림 폭주 병합 창 (0 이면 병합하지 않음)
+    private Duration coalesceWindow = Duration.ZERO;
+
+    // 재연결 재전송(Last-Event-ID) 링: 사용자당 보관 프레임 수 / 보관 시간
+    private int replayCapacity = 50;
+    private Duration replayHorizon = Duration.ofMinutes(5);
+}
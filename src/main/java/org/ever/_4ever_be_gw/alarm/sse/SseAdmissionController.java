@@ -0,0 +1,95 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 신규 SSE 구독 허용 제어 (토큰 버킷)
+ * - 배포 직후나 만료가 겹칠 때 구독이 한꺼번에 몰리면, 버킷을 넘는 구독은 토큰이 찰 때까지 늦춰서 수락합니다.
+ * - 대기 시간이 상한을 넘으면 거절 대신 재연결 간격(retry:)만 알려 클라이언트가 흩어져서 다시 붙도록 합니다.
+ *   (EventSource 는 200 이 아닌 응답을 받으면 재연결을 멈추므로 503 으로 거절하지 않음)
+ * - 버킷 상태는 "다음 토큰이 비는 시각" 하나로 표현해 CAS 한 번으로 예약합니다.
+ */
+@Component
+public class SseAdmissionController {
+
+    public static final long REJECTED = -1L;
+
+    private final AlarmSseProperties properties;
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+    private final Counter admittedCounter;
+    private final Counter deferredCounter;
+    private final Counter rejectedCounter;
+
+    public SseAdmissionController(AlarmSseProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.admittedCounter = admissionCounter(meterRegistry, "admitted");
+        this.deferredCounter = admissionCounter(meterRegistry, "deferred");
+        this.rejectedCounter = admissionCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 구독 한 건을 예약합니다.
+     *
+     * @return 수락까지 기다릴 시간(ms), 상한을 넘으면 {@link #REJECTED}
+     */
+    public long reserve() {
+        double rate = properties.getAdmissionRatePerSecond();
+        if (rate <= 0) {
+            admittedCounter.increment();
+            return 0L;
+        }
+        long interval = (long) (1_000_000_000L / rate);
+        long tolerance = interval * Math.max(0, properties.getAdmissionBurst() - 1);
+        long maxDelay = properties.getAdmissionMaxDelay().toNanos();
+
+        while (true) {
+            long now = System.nanoTime();
+            long prev = nextFreeNanos.get();
+            long base = Math.max(prev, now);
+            long wait = Math.max(0L, base - tolerance - now);
+            if (wait > maxDelay) {
+                rejectedCounter.increment();
+                return REJECTED;
+            }
+            if (nextFreeNanos.compareAndSet(prev, base + interval)) {
+                if (wait > 0) {
+                    deferredCounter.increment();
+                } else {
+                    admittedCounter.increment();
+                }
+                return Duration.ofNanos(wait).toMillis();
+            }
+        }
+    }
+
+    // 연결마다 다른 재연결 간격 (기본값 + 0 ~ jitter)
+    public Duration randomRetry() {
+        return properties.getReconnectRetryBase().plus(randomUpTo(properties.getReconnectRetryJitter()));
+    }
+
+    // 연결 유지 시간에서 0 ~ jitter 만큼 줄인 값
+    public Duration jitteredLifetime() {
+        Duration lifetime = properties.getConnectionLifetime();
+        Duration jitter = properties.getConnectionLifetimeJitter();
+        if (jitter.compareTo(lifetime) >= 0) {
+            jitter = lifetime.dividedBy(2);
+        }
+        return lifetime.minus(randomUpTo(jitter));
+    }
+
+    private static Duration randomUpTo(Duration bound) {
+        long millis = bound.toMillis();
+        return millis <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(millis + 1));
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.sse.admission")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,145 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 알림 폭주 병합 (gateway.alarm.sse.coalesce-window 가 0 보다 클 때만 동작)
+ * - 창이 열려 있지 않으면 첫 알림은 바로 보내고 병합 창을 엽니다. (단건 알림은 지연 없음)
+ * - 창이 열린 동안 들어온 알림과 unreadCount 는 모아 두었다가 창이 닫힐 때 한 번에 보냅니다.
+ *   알림이 2건 이상이면 하나의 `alarms` 프레임({"alarms":[...],"unreadCount":n})으로 보내고,
+ *   id 는 묶음의 마지막 이벤트 ID 로 지정해 Last-Event-ID 재연결과 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseBurstCoalescer {
+
+    private final AlarmSseProperties properties;
+    private final Map<String, Burst> bursts = new ConcurrentHashMap<>();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("sse-coalesce-");
+        scheduler.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            // 종료 전에 모아 둔 알림을 내보냄
+            new ArrayList<>(bursts.keySet()).forEach(this::flush);
+            scheduler.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return !properties.getCoalesceWindow().isZero() && !properties.getCoalesceWindow().isNegative();
+    }
+
+    /**
+     * 알림 프레임을 전달하거나 병합 창에 보관합니다.
+     *
+     * @param deliver 사용자에게 프레임을 실제로 보내는 함수 (창이 닫힐 때도 같은 함수를 사용)
+     */
+    public void offerAlarm(String userId, long eventId, String payload, ServerSentEvent<String> frame,
+                           BiConsumer<String, ServerSentEvent<String>> deliver) {
+        boolean[] leading = {false};
+        bursts.compute(userId, (key, burst) -> {
+            if (burst == null) {
+                leading[0] = true;
+                scheduler.schedule(() -> flush(key), Instant.now().plus(properties.getCoalesceWindow()));
+                return new Burst(deliver);
+            }
+            burst.alarms.add(new PendingAlarm(eventId, payload, frame));
+            return burst;
+        });
+        if (leading[0]) {
+            deliver.accept(userId, frame);
+        }
+    }
+
+    /**
+     * 병합 창이 열려 있으면 최신 개수만 보관하고 true, 아니면 false (호출 측이 바로 전송).
+     */
+    public boolean offerUnreadCount(String userId, long unreadCount) {
+        return bursts.computeIfPresent(userId, (key, burst) -> {
+            burst.unreadCount = unreadCount;
+            return burst;
+        }) != null;
+    }
+
+    private void flush(String userId) {
+        Burst burst = bursts.remove(userId);
+        if (burst == null) {
+            return;
+        }
+        try {
+            List<PendingAlarm> alarms = burst.alarms;
+            if (alarms.size() == 1) {
+                burst.deliver.accept(userId, alarms.get(0).frame());
+            } else if (alarms.size() > 1) {
+                log.debug("[SSE][COALESCE-FLUSH] userId={}, alarms={}", userId, alarms.size());
+                burst.deliver.accept(userId, batchFrame(alarms, burst.unreadCount));
+                return;
+            }
+            if (burst.unreadCount != null) {
+                burst.deliver.accept(userId, SseFrames.unreadCount(burst.unreadCount));
+            }
+        } catch (Exception e) {
+            log.warn("[SSE][COALESCE-FLUSH-FAIL] userId={}, msg={}", userId, e.getMessage());
+        }
+    }
+
+    // payload 는 이미 직렬화된 JSON 이므로 다시 파싱하지 않고 이어 붙임
+    private static ServerSentEvent<String> batchFrame(List<PendingAlarm> alarms, Long unreadCount) {
+        StringBuilder data = new StringBuilder("{\"alarms\":[");
+        for (int i = 0; i < alarms.size(); i++) {
+            if (i > 0) {
+                data.append(',');
+            }
+            data.append(alarms.get(i).payload());
+        }
+        data.append(']');
+        if (unreadCount != null) {
+            data.append(",\"unreadCount\":").append(unreadCount);
+        }
+        data.append('}');
+        return ServerSentEvent.<String>builder()
+            .id(Long.toString(alarms.get(alarms.size() - 1).eventId()))
+            .event("alarms")
+            .data(data.toString())
+            .build();
+    }
+
+    private static final class Burst {
+
+        private final BiConsumer<String, ServerSentEvent<String>> deliver;
+        private final List<PendingAlarm> alarms = new ArrayList<>();
+        private Long unreadCount;
+
+        Burst(BiConsumer<String, ServerSentEvent<String>> deliver) {
+            this.deliver = deliver;
+        }
+    }
+
+    private record PendingAlarm(long eventId, String payload, ServerSentEvent<String> frame) {
+    }
+}
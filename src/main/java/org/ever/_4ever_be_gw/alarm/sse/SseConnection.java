@@ -0,0 +1,199 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * 사용자 SSE 연결 하나
+ * - 전송 측(Kafka 리스너, keepalive, 중계)은 연결별 유한 큐에 프레임을 넣기만 하고 즉시 반환합니다.
+ * - 큐는 구독 측(Spring MVC 의 reactive 반환값 처리)이 요청한 만큼만 꺼내 소켓에 씁니다.
+ *   느린 브라우저는 자기 큐만 채울 뿐 Kafka 컨슈머나 다른 연결을 막지 않습니다.
+ * - 큐가 가득 차면 SseOverflowPolicy 에 따라 버리거나 합치거나 연결을 끊습니다.
+ *   버리는 대상은 상태성 프레임(keepalive, unreadCount)뿐이며, 알림 프레임을 잃게 되면 연결을 끊어
+ *   클라이언트가 재연결 후 Last-Event-ID 재전송으로 따라잡도록 합니다.
+ */
+public final class SseConnection {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    // 최신 값만 의미가 있어 큐에 쌓인 이전 프레임을 대체하거나 버려도 되는 이벤트
+    private static final Set<String> COALESCIBLE_EVENTS = Set.of("keepalive", "unreadCount");
+
+    @Getter
+    private final long id = SEQUENCE.incrementAndGet();
+    @Getter
+    private final String userId;
+    // 구독 시점의 소속 그룹 (SseGroups)
+    @Getter
+    private final Set<String> groups;
+    private final int capacity;
+    private final SseOverflowPolicy overflowPolicy;
+    private final SseQueueMetrics metrics;
+
+    private final Deque<ServerSentEvent<String>> queue = new ArrayDeque<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private final Flux<ServerSentEvent<String>> flux;
+    private volatile FluxSink<ServerSentEvent<String>> downstream;
+    private volatile boolean closed;
+
+    // 마지막으로 프레임을 큐에 넣은 시각 (keepalive 생략 판단용)
+    @Getter
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    public SseConnection(String userId, Set<String> groups, int capacity,
+                         SseOverflowPolicy overflowPolicy, SseQueueMetrics metrics) {
+        this.userId = userId;
+        this.groups = Set.copyOf(groups);
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.flux = Flux.create(sink -> {
+            downstream = sink;
+            sink.onRequest(n -> drain());
+            sink.onDispose(this::discard);
+            if (closed) {
+                sink.complete();
+            } else {
+                drain();
+            }
+        });
+    }
+
+    public Flux<ServerSentEvent<String>> flux() {
+        return flux;
+    }
+
+    /**
+     * 프레임을 큐에 넣습니다. 연결이 이미 종료됐거나 DISCONNECT 정책으로 끊었으면 false.
+     */
+    public boolean send(ServerSentEvent<String> event) {
+        synchronized (queue) {
+            if (closed) {
+                return false;
+            }
+            if (overflowPolicy == SseOverflowPolicy.COALESCE && replaceQueued(event)) {
+                metrics.coalesced();
+            } else {
+                if (queue.size() >= capacity) {
+                    if (overflowPolicy == SseOverflowPolicy.DISCONNECT) {
+                        metrics.disconnected();
+                        closeLocked();
+                        return false;
+                    }
+                    if (!dropOldestCoalescible()) {
+                        if (!isCoalescible(event)) {
+                            // 버릴 수 있는 프레임이 없어 알림을 잃게 됨 → 연결을 끊고 재전송에 맡김
+                            metrics.disconnected();
+                            closeLocked();
+                            return false;
+                        }
+                        // 새 상태성 프레임은 버려도 다음 값으로 갱신됨
+                        metrics.dropped();
+                        lastSentAt = System.currentTimeMillis();
+                        return true;
+                    }
+                    metrics.dropped();
+                }
+                queue.addLast(event);
+            }
+            lastSentAt = System.currentTimeMillis();
+        }
+        drain();
+        return true;
+    }
+
+    /**
+     * 큐에 남은 프레임을 버리고 스트림을 즉시 종료합니다.
+     */
+    public void close() {
+        synchronized (queue) {
+            closeLocked();
+        }
+    }
+
+    public int queueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    // 같은 이벤트 이름의 상태성 프레임이 큐에 있으면 그 자리를 새 프레임으로 교체
+    private boolean replaceQueued(ServerSentEvent<String> event) {
+        if (!isCoalescible(event)) {
+            return false;
+        }
+        for (Iterator<ServerSentEvent<String>> it = queue.iterator(); it.hasNext(); ) {
+            if (event.event().equals(it.next().event())) {
+                it.remove();
+                queue.addLast(event);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 큐에서 가장 오래된 상태성 프레임 하나를 버림 (없으면 false)
+    private boolean dropOldestCoalescible() {
+        for (Iterator<ServerSentEvent<String>> it = queue.iterator(); it.hasNext(); ) {
+            if (isCoalescible(it.next())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCoalescible(ServerSentEvent<String> event) {
+        return event.event() != null && COALESCIBLE_EVENTS.contains(event.event());
+    }
+
+    private void closeLocked() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        FluxSink<ServerSentEvent<String>> sink = downstream;
+        if (sink != null) {
+            sink.complete();
+        }
+    }
+
+    private void discard() {
+        synchronized (queue) {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    // 여러 스레드가 동시에 호출해도 한 스레드만 큐를 비우도록 하는 work-in-progress 루프
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            FluxSink<ServerSentEvent<String>> sink = downstream;
+            if (sink != null) {
+                while (sink.requestedFromDownstream() > 0) {
+                    ServerSentEvent<String> next;
+                    synchronized (queue) {
+                        next = queue.pollFirst();
+                    }
+                    if (next == null) {
+                        break;
+                    }
+                    sink.next(next);
+                }
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
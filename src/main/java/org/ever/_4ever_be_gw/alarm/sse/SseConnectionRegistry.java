@@ -0,0 +1,88 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 SSE 연결 목록
+ * - 사용자당 연결 목록은 작으므로 변경 시 새 불변 리스트로 교체하고, 조회/전송은 잠금 없이 순회합니다.
+ * - 사용자당 연결 수가 상한을 넘으면 가장 오래된 연결부터 밀어냅니다. (여러 탭이 서로를 끊는 재연결 루프 방지)
+ */
+@Component
+public class SseConnectionRegistry {
+
+    private final Map<String, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    /**
+     * 연결을 등록하고, 상한 초과로 밀려난 연결 목록을 반환합니다. (호출 측에서 종료)
+     */
+    public List<SseConnection> register(SseConnection connection, int maxPerUser) {
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(connection.getUserId(), (userId, current) -> {
+            List<SseConnection> next = new ArrayList<>(current != null ? current : List.of());
+            next.add(connection);
+            // 등록 순서대로 쌓이므로 앞쪽이 가장 오래된 연결
+            while (next.size() > Math.max(1, maxPerUser)) {
+                evicted.add(next.remove(0));
+            }
+            return List.copyOf(next);
+        });
+        connectionCount.addAndGet(1 - evicted.size());
+        return evicted;
+    }
+
+    public void unregister(SseConnection connection) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(connection.getUserId(), (userId, current) -> {
+            if (!current.contains(connection)) {
+                return current;
+            }
+            removed[0] = true;
+            List<SseConnection> next = new ArrayList<>(current);
+            next.remove(connection);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 사용자의 모든 연결을 제거하고 반환합니다.
+     */
+    public List<SseConnection> unregisterAll(String userId) {
+        List<SseConnection> removed = connections.remove(userId);
+        if (removed == null) {
+            return List.of();
+        }
+        connectionCount.addAndGet(-removed.size());
+        return removed;
+    }
+
+    public List<SseConnection> get(String userId) {
+        return connections.getOrDefault(userId, List.of());
+    }
+
+    public void forEach(Consumer<SseConnection> action) {
+        connections.values().forEach(list -> list.forEach(action));
+    }
+
+    public Collection<String> userIds() {
+        return connections.keySet();
+    }
+
+    public int userCount() {
+        return connections.size();
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+}
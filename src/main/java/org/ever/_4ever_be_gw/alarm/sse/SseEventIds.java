@@ -0,0 +1,42 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트 ID 발급
+ * - (epoch millis << 10) 이상에서 단조 증가하는 long 입니다.
+ * - 노드 내에서는 엄격히 증가하고, 노드 간에도 발급 시각 순서를 대체로 유지하므로
+ *   다른 노드로 재연결해도 Last-Event-ID 비교가 의미를 가집니다.
+ */
+public final class SseEventIds {
+
+    private static final int SEQUENCE_BITS = 10;
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private SseEventIds() {
+    }
+
+    public static long next() {
+        long floor = System.currentTimeMillis() << SEQUENCE_BITS;
+        return LAST.updateAndGet(prev -> Math.max(prev + 1, floor));
+    }
+
+    // ID 발급 시각 (epoch millis)
+    public static long timestampOf(long eventId) {
+        return eventId >> SEQUENCE_BITS;
+    }
+
+    /**
+     * Last-Event-ID 헤더 값을 해석합니다. 없거나 형식이 맞지 않으면 null.
+     */
+    public static Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.time.Duration;
+import org.springframework.http.codec.ServerSentEvent;
+
+/**
+ * 공용 SSE 프레임
+ * - 내용이 고정된 프레임은 모든 연결이 같은 불변 인스턴스를 공유합니다.
+ */
+public final class SseFrames {
+
+    public static final ServerSentEvent<String> PING =
+        ServerSentEvent.<String>builder().event("keepalive").data("ping").build();
+
+    // 재연결 시 누락 구간을 재전송할 수 없음 → 클라이언트가 목록/개수를 다시 조회
+    public static final ServerSentEvent<String> RESYNC =
+        ServerSentEvent.<String>builder().event("resync").data("replay-unavailable").build();
+
+    private SseFrames() {
+    }
+
+    // 연결 직후 수립 확인, 연결이 끊겼을 때 클라이언트가 기다릴 재연결 간격을 함께 전달
+    public static ServerSentEvent<String> connected(Duration retry) {
+        return ServerSentEvent.<String>builder()
+            .event("keepalive")
+            .data("connected")
+            .retry(retry)
+            .build();
+    }
+
+    // 구독 허용량 초과 → 스트림을 바로 닫고 retry 간격 뒤 재연결하도록 안내
+    public static ServerSentEvent<String> retryLater(Duration retry) {
+        return ServerSentEvent.<String>builder()
+            .event("reconnect")
+            .data("admission-deferred")
+            .retry(retry)
+            .build();
+    }
+
+    public static ServerSentEvent<String> unreadCount(long unreadCount) {
+        return ServerSentEvent.<String>builder()
+            .event("unreadCount")
+            .data(Long.toString(unreadCount))
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 → 이 노드에 연결된 사용자 색인
+ * - 연결 단위로 참조 수를 셉니다.
+ * - 사용자의 마지막 연결이 끊겨도 replay-horizon 동안은 그룹에 남겨 둡니다.
+ *   재연결 중에 온 그룹 알림도 SseReplayStore 링(같은 기간 유지)에 기록되어, 재연결 시 재전송됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseGroupIndex {
+
+    private final AlarmSseProperties properties;
+    private final Map<String, Map<String, Membership>> members = new ConcurrentHashMap<>();
+
+    public void add(SseConnection connection) {
+        long now = System.nanoTime();
+        long horizonNanos = horizonNanos();
+        for (String group : connection.getGroups()) {
+            members.computeIfAbsent(group, key -> new ConcurrentHashMap<>())
+                .compute(connection.getUserId(), (userId, membership) ->
+                    membership == null || membership.expired(now, horizonNanos)
+                        ? new Membership(1, 0L)
+                        : new Membership(membership.connections() + 1, 0L));
+        }
+    }
+
+    public void remove(SseConnection connection) {
+        long now = System.nanoTime();
+        for (String group : connection.getGroups()) {
+            members.computeIfPresent(group, (key, users) -> {
+                users.computeIfPresent(connection.getUserId(), (userId, membership) ->
+                    membership.connections() > 1
+                        ? new Membership(membership.connections() - 1, 0L)
+                        : new Membership(0, now));
+                return users;
+            });
+        }
+        // 연결이 끊길 때마다 horizon 이 지난 이탈 멤버를 정리 (알림이 오지 않는 그룹에도 남지 않도록)
+        members.keySet().forEach(group -> prune(group, now));
+    }
+
+    /**
+     * 연결 중이거나 마지막 연결이 끊긴 지 replay-horizon 이 지나지 않은 멤버
+     */
+    public Set<String> members(String group) {
+        Map<String, Membership> users = prune(group, System.nanoTime());
+        return users != null ? users.keySet().stream().collect(Collectors.toUnmodifiableSet()) : Set.of();
+    }
+
+    public int groupCount() {
+        return members.size();
+    }
+
+    private Map<String, Membership> prune(String group, long now) {
+        long horizonNanos = horizonNanos();
+        return members.computeIfPresent(group, (key, users) -> {
+            users.entrySet().removeIf(entry -> entry.getValue().expired(now, horizonNanos));
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    private long horizonNanos() {
+        return properties.getReplayHorizon().toNanos();
+    }
+
+    /**
+     * @param leftAt 마지막 연결이 끊긴 시각 (System.nanoTime, 연결 중이면 0)
+     */
+    private record Membership(int connections, long leftAt) {
+
+        boolean expired(long now, long horizonNanos) {
+            return connections == 0 && now - leftAt > horizonNanos;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
+import org.ever.event.alarm.TargetType;
+import org.springframework.util.StringUtils;
+
+/**
+ * 그룹 알림 대상 키
+ * - 구독 시 사용자 토큰 정보로 소속 그룹을 계산합니다.
+ *   부서: 역할 접두사 (MM_ADMIN → department:MM), 역할: role:MM_ADMIN, 사용자 유형: userType:SUPPLIER
+ * - 알림의 targetType/targetId 로 전송 대상 그룹을 계산합니다. 개인 대상이면 null.
+ */
+public final class SseGroups {
+
+    private static final String ALL = "ALL";
+
+    private SseGroups() {
+    }
+
+    public static String department(String department) {
+        return "department:" + department.toUpperCase(Locale.ROOT);
+    }
+
+    public static String role(String role) {
+        return "role:" + role.toUpperCase(Locale.ROOT);
+    }
+
+    public static String userType(String userType) {
+        return "userType:" + userType.toUpperCase(Locale.ROOT);
+    }
+
+    public static Set<String> of(EverUserPrincipal principal) {
+        Set<String> groups = new LinkedHashSet<>();
+        String role = principal.getUserRole();
+        if (StringUtils.hasText(role)) {
+            groups.add(role(role));
+            int separator = role.indexOf('_');
+            if (separator > 0) {
+                groups.add(department(role.substring(0, separator)));
+            }
+        }
+        if (StringUtils.hasText(principal.getUserType())) {
+            groups.add(userType(principal.getUserType()));
+        }
+        return groups;
+    }
+
+    /**
+     * 알림 대상이 그룹이면 그룹 키를, 개인(userId)이면 null 을 반환합니다.
+     * - DEPARTMENT: targetId 는 부서 코드 (MM, SD, IM ...)
+     * - CUSTOMER / SUPPLIER: targetId 가 비었거나 ALL 이면 해당 유형 전체, 그 외에는 해당 사용자 개인
+     */
+    public static String forTarget(String targetType, String targetId) {
+        if (!StringUtils.hasText(targetType)) {
+            return null;
+        }
+        TargetType type;
+        try {
+            type = TargetType.valueOf(targetType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return switch (type) {
+            case DEPARTMENT -> StringUtils.hasText(targetId) ? department(targetId) : null;
+            case CUSTOMER, SUPPLIER -> !StringUtils.hasText(targetId) || ALL.equalsIgnoreCase(targetId)
+                ? userType(type.name())
+                : null;
+            case EMPLOYEE -> null;
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE keepalive 스케줄러 (샤딩된 해시 타이머 휠)
+ * - 연결은 ID 로 샤드와 휠 슬롯이 정해지고, 각 샤드는 keepalive 주기를 슬롯 수로 나눈 간격마다 한 슬롯씩 처리합니다.
+ *   → 전체 연결의 ping 이 주기 전체에 고르게 흩어지고, 샤드끼리는 별도 스레드에서 병렬로 돕니다.
+ * - 최근 주기의 절반 이내에 프레임이 나간 연결은 건너뜁니다. (연결당 최대 무전송 구간 ≈ 주기 × 1.5)
+ * - ping 은 연결 큐에 넣기만 하므로 느린 소켓이 같은 샤드의 다른 연결을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class SseKeepAliveScheduler {
+
+    private final AlarmSseProperties properties;
+    private final Counter sentCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private Shard[] shards;
+
+    public SseKeepAliveScheduler(AlarmSseProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sentCounter = keepAliveCounter(meterRegistry, "sent");
+        this.skippedCounter = keepAliveCounter(meterRegistry, "skipped");
+        this.failedCounter = keepAliveCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    void start() {
+        int shardCount = Math.max(1, properties.getKeepaliveShards());
+        int slots = Math.max(1, properties.getKeepaliveWheelSlots());
+        long intervalMillis = properties.getKeepaliveInterval().toMillis();
+        long tickMillis = Math.max(1, intervalMillis / slots);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(shardCount);
+        scheduler.setThreadNamePrefix("sse-keepalive-");
+        scheduler.initialize();
+
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(slots, intervalMillis / 2);
+            // 샤드끼리도 틱 시점을 엇갈리게 시작
+            Duration initialDelay = Duration.ofMillis(tickMillis * i / shardCount);
+            Shard shard = shards[i];
+            scheduler.scheduleAtFixedRate(shard::tick,
+                Instant.now().plus(initialDelay), Duration.ofMillis(tickMillis));
+        }
+        log.info("[INFO] SSE keepalive 타이머 휠 시작 - shards: {}, slots: {}, tickMs: {}",
+            shardCount, slots, tickMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    public void register(SseConnection connection) {
+        shardOf(connection).add(connection);
+    }
+
+    public void unregister(SseConnection connection) {
+        shardOf(connection).remove(connection);
+    }
+
+    private Shard shardOf(SseConnection connection) {
+        return shards[(int) Math.floorMod(connection.getId(), (long) shards.length)];
+    }
+
+    private static Counter keepAliveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.sse.keepalive")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private final class Shard {
+
+        private final Set<SseConnection>[] wheel;
+        private final long quietMillis;
+        private int cursor;
+
+        @SuppressWarnings("unchecked")
+        Shard(int slots, long quietMillis) {
+            this.wheel = new Set[slots];
+            for (int i = 0; i < slots; i++) {
+                wheel[i] = ConcurrentHashMap.newKeySet();
+            }
+            this.quietMillis = quietMillis;
+        }
+
+        void add(SseConnection connection) {
+            wheel[slotOf(connection)].add(connection);
+        }
+
+        void remove(SseConnection connection) {
+            wheel[slotOf(connection)].remove(connection);
+        }
+
+        // 연속된 ID 가 같은 샤드 안에서도 슬롯에 고르게 퍼지도록 섞어서 배치
+        private int slotOf(SseConnection connection) {
+            return Math.floorMod(Long.hashCode(connection.getId() * 0x9E3779B97F4A7C15L), wheel.length);
+        }
+
+        // 한 스레드에서만 호출되므로 cursor 는 동기화하지 않음
+        void tick() {
+            Set<SseConnection> bucket = wheel[cursor];
+            cursor = (cursor + 1) % wheel.length;
+            long now = System.currentTimeMillis();
+            for (SseConnection connection : bucket) {
+                try {
+                    if (now - connection.getLastSentAt() < quietMillis) {
+                        skippedCounter.increment();
+                    } else if (connection.send(SseFrames.PING)) {
+                        sentCounter.increment();
+                    } else {
+                        // 큐 초과로 끊겼거나 이미 종료된 연결 → 스트림 종료 시 doFinally 에서 정리됨
+                        failedCounter.increment();
+                        bucket.remove(connection);
+                        connection.close();
+                    }
+                } catch (Exception e) {
+                    log.warn("[SSE][KEEPALIVE-FAIL] userId={}, connectionId={}, msg={}",
+                        connection.getUserId(), connection.getId(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+/**
+ * 연결별 전송 큐가 가득 찼을 때의 처리 방식
+ */
+public enum SseOverflowPolicy {
+
+    // 가장 오래된 상태성 프레임(unreadCount, keepalive)을 버리고 새 프레임을 넣음
+    // 버릴 상태성 프레임이 없으면 새 상태성 프레임은 버리고, 알림 프레임이면 연결을 끊음 (Last-Event-ID 재전송)
+    DROP_OLDEST,
+
+    // 상태성 프레임은 큐에 있는 같은 종류를 대체하고, 그래도 가득 차면 DROP_OLDEST 와 같이 처리
+    COALESCE,
+
+    // 연결을 끊음 (클라이언트가 재연결 후 Last-Event-ID 로 따라잡음)
+    DISCONNECT
+}
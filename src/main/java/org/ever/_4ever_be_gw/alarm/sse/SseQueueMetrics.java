@@ -0,0 +1,62 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 연결/전송 큐 지표
+ * - gateway.sse.connections: 이 노드의 활성 연결 수
+ * - gateway.sse.queue.depth{stat=total|max}: 연결 큐에 쌓인 프레임 수 (스크레이프 시점 계산)
+ * - gateway.sse.queue.overflow{action=dropped|coalesced|disconnected}: 큐 초과 처리 횟수
+ */
+@Component
+public class SseQueueMetrics {
+
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter disconnectedCounter;
+
+    public SseQueueMetrics(MeterRegistry meterRegistry, SseConnectionRegistry connectionRegistry) {
+        this.droppedCounter = overflowCounter(meterRegistry, "dropped");
+        this.coalescedCounter = overflowCounter(meterRegistry, "coalesced");
+        this.disconnectedCounter = overflowCounter(meterRegistry, "disconnected");
+
+        Gauge.builder("gateway.sse.connections", connectionRegistry, SseConnectionRegistry::connectionCount)
+            .register(meterRegistry);
+        Gauge.builder("gateway.sse.queue.depth", connectionRegistry, registry -> {
+                AtomicInteger total = new AtomicInteger();
+                registry.forEach(connection -> total.addAndGet(connection.queueDepth()));
+                return total.get();
+            })
+            .tag("stat", "total")
+            .register(meterRegistry);
+        Gauge.builder("gateway.sse.queue.depth", connectionRegistry, registry -> {
+                AtomicInteger max = new AtomicInteger();
+                registry.forEach(connection -> max.accumulateAndGet(connection.queueDepth(), Math::max));
+                return max.get();
+            })
+            .tag("stat", "max")
+            .register(meterRegistry);
+    }
+
+    void dropped() {
+        droppedCounter.increment();
+    }
+
+    void coalesced() {
+        coalescedCounter.increment();
+    }
+
+    void disconnected() {
+        disconnectedCounter.increment();
+    }
+
+    private static Counter overflowCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("gateway.sse.queue.overflow")
+            .tag("action", action)
+            .register(meterRegistry);
+    }
+}
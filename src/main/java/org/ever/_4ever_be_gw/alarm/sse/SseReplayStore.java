@@ -0,0 +1,177 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재연결 시 누락 프레임 재전송용 사용자별 링 버퍼
+ * - 링은 사용자가 이 노드에 구독할 때 만들어지고, 이 노드의 연결이 하나라도 남아 있는 동안 유지됩니다.
+ *   마지막 연결이 끊긴 시점부터 replay-horizon 이 지나면 사라집니다. (조용한 사용자의 링이 연결 중에 만료되지 않도록)
+ * - 링이 있는 사용자에 대해서만 프레임을 기록합니다. (연결이 잠시 끊긴 동안의 프레임도 기록됨)
+ * - 링에 없는 구간을 요청받으면(링 없음 / 용량·시간 초과로 밀려남) 재전송 대신 null 을 반환해
+ *   호출 측이 클라이언트에 목록 재조회를 요청하도록 합니다.
+ */
+@Component
+public class SseReplayStore {
+
+    private final AlarmSseProperties properties;
+    private final Cache<String, Ring> rings;
+
+    public SseReplayStore(AlarmSseProperties properties) {
+        this.properties = properties;
+        this.rings = Caffeine.newBuilder()
+            .expireAfter(new RingExpiry(properties.getReplayHorizon().toNanos()))
+            .build();
+    }
+
+    /**
+     * 구독 시 사용자 링을 확보하고 연결 수를 늘립니다. (연결이 남아 있는 동안 만료되지 않음)
+     */
+    public void open(String userId) {
+        while (true) {
+            Ring ring = rings.get(userId, key -> new Ring());
+            ring.connect();
+            // 다시 조회해 늘어난 연결 수 기준으로 만료 시간을 재계산 (그 사이 만료된 링이면 새로 확보)
+            if (rings.getIfPresent(userId) == ring) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 연결 종료 시 연결 수를 줄입니다. 마지막 연결이면 이 시점부터 replay-horizon 후 링이 만료됩니다.
+     */
+    public void close(String userId) {
+        Ring ring = rings.getIfPresent(userId);
+        if (ring != null) {
+            ring.disconnect();
+            // 다시 조회해 줄어든 연결 수 기준으로 만료 시간을 재계산
+            rings.getIfPresent(userId);
+        }
+    }
+
+    /**
+     * 링이 있는 사용자에 대해서만 프레임을 기록합니다.
+     */
+    public void record(String userId, long eventId, ServerSentEvent<String> event) {
+        Ring ring = rings.getIfPresent(userId);
+        if (ring != null) {
+            ring.add(eventId, event, properties.getReplayCapacity(), horizonMillis());
+        }
+    }
+
+    /**
+     * lastEventId 이후의 프레임을 반환합니다. 링이 구간을 보장하지 못하면 null.
+     */
+    public List<Entry> since(String userId, long lastEventId) {
+        Ring ring = rings.getIfPresent(userId);
+        return ring != null ? ring.since(lastEventId, horizonMillis()) : null;
+    }
+
+    private long horizonMillis() {
+        return properties.getReplayHorizon().toMillis();
+    }
+
+    public record Entry(long eventId, ServerSentEvent<String> event) {
+    }
+
+    /**
+     * 연결 중인 링은 만료되지 않고, 연결이 모두 끊긴 링은 마지막 연결 종료 시점 + horizon 에 만료됩니다.
+     * 조회 시마다 재계산되므로 open/close 후 다시 조회해 변경된 연결 수를 반영합니다.
+     */
+    private record RingExpiry(long horizonNanos) implements Expiry<String, Ring> {
+
+        @Override
+        public long expireAfterCreate(String userId, Ring ring, long currentTime) {
+            return remaining(ring, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String userId, Ring ring, long currentTime, long currentDuration) {
+            return remaining(ring, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String userId, Ring ring, long currentTime, long currentDuration) {
+            return remaining(ring, currentTime);
+        }
+
+        private long remaining(Ring ring, long currentTime) {
+            long disconnectedAt = ring.disconnectedAt();
+            if (disconnectedAt == Ring.CONNECTED) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, disconnectedAt + horizonNanos - currentTime);
+        }
+    }
+
+    private static final class Ring {
+
+        static final long CONNECTED = Long.MIN_VALUE;
+
+        private final Deque<Slot> slots = new ArrayDeque<>();
+        private final long createdAt = System.currentTimeMillis();
+        // 용량/시간 초과로 버린 가장 큰 이벤트 ID (이 이하를 요청받으면 누락 구간이 있음)
+        private long droppedUpTo = Long.MIN_VALUE;
+        // 이 노드의 연결 수와 마지막 연결 종료 시각 (System.nanoTime, 연결 중이면 CONNECTED)
+        private int connections;
+        private long disconnectedAt = System.nanoTime();
+
+        synchronized void connect() {
+            connections++;
+            disconnectedAt = CONNECTED;
+        }
+
+        synchronized void disconnect() {
+            connections = Math.max(0, connections - 1);
+            if (connections == 0) {
+                disconnectedAt = System.nanoTime();
+            }
+        }
+
+        synchronized long disconnectedAt() {
+            return disconnectedAt;
+        }
+
+        synchronized void add(long eventId, ServerSentEvent<String> event, int capacity, long horizonMillis) {
+            long now = System.currentTimeMillis();
+            slots.addLast(new Slot(eventId, now, event));
+            while (slots.size() > capacity) {
+                droppedUpTo = Math.max(droppedUpTo, slots.removeFirst().eventId());
+            }
+            trim(now, horizonMillis);
+        }
+
+        synchronized List<Entry> since(long lastEventId, long horizonMillis) {
+            long now = System.currentTimeMillis();
+            trim(now, horizonMillis);
+            // 링 생성 전 구간(다른 노드에서 받은 ID 등)이거나 이미 버린 구간이면 재전송으로 메울 수 없음
+            if (lastEventId < droppedUpTo || SseEventIds.timestampOf(lastEventId) < createdAt) {
+                return null;
+            }
+            List<Entry> missed = new ArrayList<>();
+            for (Slot slot : slots) {
+                if (slot.eventId() > lastEventId) {
+                    missed.add(new Entry(slot.eventId(), slot.event()));
+                }
+            }
+            return missed;
+        }
+
+        private void trim(long now, long horizonMillis) {
+            while (!slots.isEmpty() && now - slots.peekFirst().recordedAt() > horizonMillis) {
+                droppedUpTo = Math.max(droppedUpTo, slots.removeFirst().eventId());
+            }
+        }
+    }
+
+    private record Slot(long eventId, long recordedAt, ServerSentEvent<String> event) {
+    }
+}
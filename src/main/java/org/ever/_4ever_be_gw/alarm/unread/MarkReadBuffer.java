@@ -0,0 +1,162 @@
+package org.ever._4ever_be_gw.alarm.unread;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.cache.NotificationListCache;
+import org.ever._4ever_be_gw.alarm.dto.request.AlarmServerRequestDto;
+import org.ever._4ever_be_gw.alarm.util.AlarmDtoConverter;
+import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
+import org.ever._4ever_be_gw.config.webclient.WebClientProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 단일 알림 읽음 처리 지연 쓰기 (write-behind)
+ * - 사용자별로 mark-read-flush-window 동안 들어온 단일 읽음 요청을 모아 목록 읽음 처리(PATCH /notifications/list/read) 한 번으로 보냅니다.
+ * - 모은 건수가 mark-read-max-batch 에 닿으면 창이 닫히기 전에 바로 보냅니다.
+ * - 접수 시점과 전송 성공 후에 목록 캐시를 무효화합니다. (전송 전후 어느 쪽에서 시작한 조회도 오래된 목록을 남기지 않도록)
+ * - 일괄 전송이 4xx 로 거절되면(없는 알림, 다른 사용자의 알림 등) 한 건씩 다시 보내 나머지 요청이 함께 버려지지 않도록 합니다.
+ * - 전송 실패 시 낙관적으로 줄여 둔 안 읽은 개수를 알림 서버 값으로 다시 맞춥니다.
+ * - 종료 시 남은 요청을 모두 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkReadBuffer {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final UnreadCountProperties properties;
+    private final WebClientProvider webClientProvider;
+    private final UnreadCounter unreadCounter;
+    private final NotificationListCache listCache;
+
+    private final Map<String, Set<String>> pending = new ConcurrentHashMap<>();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("mark-read-flush-");
+        scheduler.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        List<Mono<Void>> flushes = new ArrayList<>();
+        for (String userId : new ArrayList<>(pending.keySet())) {
+            flushes.add(flush(userId));
+        }
+        try {
+            Flux.merge(flushes).then().block(SHUTDOWN_FLUSH_TIMEOUT);
+            log.info("[INFO] 종료 전 읽음 처리 대기분 전송 완료 - users: {}", flushes.size());
+        } catch (Exception e) {
+            log.warn("[WARN] 종료 전 읽음 처리 대기분 전송 실패 - reason: {}", e.getMessage());
+        }
+        scheduler.shutdown();
+    }
+
+    public boolean isEnabled() {
+        Duration window = properties.getMarkReadFlushWindow();
+        return !window.isZero() && !window.isNegative();
+    }
+
+    /**
+     * 읽음 요청을 대기열에 넣습니다. 이미 대기 중인 알림이면 false. (안 읽은 개수를 두 번 줄이지 않도록)
+     */
+    public boolean add(String userId, String notificationId) {
+        boolean[] added = {false};
+        boolean[] opened = {false};
+        int[] size = {0};
+        pending.compute(userId, (key, ids) -> {
+            if (ids == null) {
+                ids = new LinkedHashSet<>();
+                opened[0] = true;
+            }
+            added[0] = ids.add(notificationId);
+            size[0] = ids.size();
+            return ids;
+        });
+
+        if (added[0]) {
+            // 접수 시점에 세대를 올려, 전송 전에 시작된 목록 조회가 읽기 전 상태를 캐시하지 않도록 함
+            listCache.invalidate(userId);
+        }
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(userId).subscribe(),
+                Instant.now().plus(properties.getMarkReadFlushWindow()));
+        } else if (size[0] >= properties.getMarkReadMaxBatch()) {
+            flush(userId).subscribe();
+        }
+        return added[0];
+    }
+
+    private Mono<Void> flush(String userId) {
+        Set<String> ids = pending.remove(userId);
+        if (ids == null || ids.isEmpty()) {
+            return Mono.empty();
+        }
+        List<String> notificationIds = List.copyOf(ids);
+        AlarmServerRequestDto.NotificationMarkReadRequest request =
+            AlarmDtoConverter.toMarkReadServerRequest(UUID.fromString(userId), notificationIds);
+
+        return webClientProvider.getWebClient(ApiClientKey.ALARM).patch()
+            .uri("/notifications/list/read")
+            .bodyValue(request)
+            .retrieve()
+            .toBodilessEntity()
+            .doOnSuccess(response -> {
+                log.info("단일 알림 읽음 처리 일괄 전송 성공 - userId: {}, count: {}",
+                    userId, notificationIds.size());
+                // 알림 서버에 반영된 뒤에 목록 캐시를 지워야 오래된 목록이 다시 캐시되지 않음
+                listCache.invalidate(userId);
+            })
+            .then()
+            .onErrorResume(e -> {
+                log.error("단일 알림 읽음 처리 일괄 전송 실패 - userId: {}, notificationIds: {}, reason: {}",
+                    userId, notificationIds, e.getMessage());
+                Mono<Void> retry = e instanceof WebClientResponseException ex
+                    && ex.getStatusCode().is4xxClientError() && notificationIds.size() > 1
+                    ? markReadEach(userId, notificationIds)
+                    : Mono.empty();
+                return retry.doFinally(signal -> {
+                    if (unreadCounter.isEnabled()) {
+                        unreadCounter.reconcileAsync(userId);
+                    }
+                });
+            });
+    }
+
+    private Mono<Void> markReadEach(String userId, List<String> notificationIds) {
+        AlarmServerRequestDto.NotificationMarkReadOneRequest request =
+            AlarmDtoConverter.toMarkReadOneServerRequest(UUID.fromString(userId), null);
+
+        return Flux.fromIterable(notificationIds)
+            .concatMap(notificationId -> webClientProvider.getWebClient(ApiClientKey.ALARM).patch()
+                .uri("/notifications/{notificationId}/read", notificationId)
+                .bodyValue(request)
+                .retrieve()
+                .toBodilessEntity()
+                .onErrorResume(e -> {
+                    log.warn("단일 알림 읽음 처리 개별 전송 실패 - userId: {}, notificationId: {}, reason: {}",
+                        userId, notificationId, e.getMessage());
+                    return Mono.empty();
+                }))
+            .then(Mono.fromRunnable(() -> listCache.invalidate(userId)));
+    }
+}
@@ -0,0 +1,32 @@
+package org.ever._4ever_be_gw.alarm.unread;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자별 안 읽은 알림 개수 카운터 설정 (gateway.alarm.unread)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.alarm.unread")
+public class UnreadCountProperties {
+
+    private boolean enabled = true;
+
+    private String keyPrefix = "gw:alarm:unread:";
+
+    // 카운터 보관 시간, 변경될 때마다 갱신 (만료 후 첫 조회 시 알림 서버 값으로 다시 채움)
+    private Duration counterTtl = Duration.ofMinutes(30);
+
+    // 이 노드에 연결된 사용자의 카운터를 알림 서버 값과 맞추는 주기 / 동시 조회 수
+    private long reconcileIntervalMillis = 5 * 60 * 1000;
+    private int reconcileConcurrency = 8;
+
+    // 단일 읽음 처리 지연 쓰기: 사용자별로 모으는 시간 / 한 번에 보내는 최대 건수 (0 이면 즉시 전송)
+    private Duration markReadFlushWindow = Duration.ofMillis(500);
+    private int markReadMaxBatch = 50;
+}
@@ -0,0 +1,181 @@
+package org.ever._4ever_be_gw.alarm.unread;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.alarm.sse.SseConnectionRegistry;
+import org.ever._4ever_be_gw.alarm.sse.SseGroupIndex;
+import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
+import org.ever._4ever_be_gw.config.webclient.WebClientProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 사용자별 안 읽은 알림 개수 (Redis 카운터)
+ * - 카운터가 없으면 알림 서버에서 조회한 값으로 채우고, 이후에는 alarm-sent(+1) / 읽음 처리(-n) 로 증감합니다.
+ * - 증감은 카운터가 있을 때만 적용합니다. (없는 키를 0 에서 시작하면 실제 개수와 어긋나므로 다음 조회 때 채움)
+ * - 읽음 처리 대상이 이미 읽은 알림이었던 경우 등으로 생기는 오차는 주기적 재조정으로 맞춥니다.
+ * - 값이 바뀌면 SSE unreadCount 이벤트로 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounter {
+
+    // 키가 있을 때만 증감, 0 미만은 0 으로 보정, 반환 -1 은 키 없음
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+            + "if v < 0 then v = 0 redis.call('SET', KEYS[1], 0) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+            + "return v",
+        Long.class);
+
+    // 값과 만료 시간을 함께 지정하고 이전 값을 반환 (이전 값이 없으면 null)
+    private static final RedisScript<String> SET_AND_GET = new DefaultRedisScript<>(
+        "local previous = redis.call('GET', KEYS[1]) "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+            + "return previous",
+        String.class);
+
+    private final UnreadCountProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WebClientProvider webClientProvider;
+    private final AlarmSendService alarmSendService;
+    private final SseConnectionRegistry connectionRegistry;
+    private final SseGroupIndex groupIndex;
+
+    // 같은 사용자의 재조정 요청이 몰리면 하나로 합침
+    private final Set<String> pendingReconcile = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reconcileRunning = new AtomicBoolean();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 카운터 값을 반환하고, 없으면 알림 서버에서 조회해 채웁니다. 조회 실패 시 null.
+     */
+    public Long getOrLoad(String userId) {
+        String cached = stringRedisTemplate.opsForValue().get(key(userId));
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+        Long loaded = fetchUpstream(userId).block();
+        if (loaded != null) {
+            // 조회하는 사이 다른 노드가 먼저 채웠으면 그 값을 유지
+            stringRedisTemplate.opsForValue().setIfAbsent(key(userId), Long.toString(loaded), properties.getCounterTtl());
+        }
+        return loaded;
+    }
+
+    /**
+     * 카운터가 있으면 delta 만큼 증감하고 새 값을, 없으면 null 을 반환합니다.
+     */
+    public Long add(String userId, long delta) {
+        try {
+            Long value = stringRedisTemplate.execute(ADD_IF_PRESENT, List.of(key(userId)),
+                Long.toString(delta), Long.toString(properties.getCounterTtl().toMillis()));
+            return value == null || value < 0 ? null : value;
+        } catch (Exception e) {
+            log.warn("[WARN] 안 읽은 알림 카운터 갱신 실패 - userId: {}, delta: {}, reason: {}",
+                userId, delta, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 값을 지정하고 이 노드의 연결로 전달합니다. (전체 읽음 처리 등)
+     */
+    public void set(String userId, long count) {
+        stringRedisTemplate.opsForValue().set(key(userId), Long.toString(count), properties.getCounterTtl());
+        alarmSendService.sendUnreadCount(userId, count);
+    }
+
+    /**
+     * 증감 후 이 노드의 연결로 새 값을 전달합니다.
+     */
+    public void addAndPush(String userId, long delta) {
+        Long value = add(userId, delta);
+        if (value != null) {
+            alarmSendService.sendUnreadCount(userId, value);
+        }
+    }
+
+    /**
+     * 알림 서버 값으로 카운터를 비동기로 다시 맞추고, 바뀌었으면 전달합니다.
+     */
+    public void reconcileAsync(String userId) {
+        if (!pendingReconcile.add(userId)) {
+            return;
+        }
+        reconcile(userId)
+            .doFinally(signal -> pendingReconcile.remove(userId))
+            .subscribe();
+    }
+
+    /**
+     * 그룹 알림은 멤버별 카운터를 노드마다 증가시키면 중복될 수 있으므로, 이 노드의 멤버만 재조정합니다.
+     */
+    public void reconcileGroupAsync(String group) {
+        groupIndex.members(group).forEach(this::reconcileAsync);
+    }
+
+    @Scheduled(fixedDelayString = "#{@unreadCountProperties.reconcileIntervalMillis}")
+    public void reconcileConnected() {
+        if (!isEnabled() || !reconcileRunning.compareAndSet(false, true)) {
+            return;
+        }
+        List<String> userIds = List.copyOf(connectionRegistry.userIds());
+        Flux.fromIterable(userIds)
+            .flatMap(this::reconcile, Math.max(1, properties.getReconcileConcurrency()))
+            .doFinally(signal -> {
+                reconcileRunning.set(false);
+                log.debug("[SSE][UNREAD-RECONCILE] users={}, signal={}", userIds.size(), signal);
+            })
+            .subscribe();
+    }
+
+    private Mono<Long> reconcile(String userId) {
+        return fetchUpstream(userId)
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(count -> {
+                String previous = stringRedisTemplate.execute(SET_AND_GET, List.of(key(userId)),
+                    Long.toString(count), Long.toString(properties.getCounterTtl().toMillis()));
+                if (previous == null || Long.parseLong(previous) != count) {
+                    alarmSendService.sendUnreadCount(userId, count);
+                }
+            })
+            .onErrorResume(e -> {
+                log.warn("[WARN] 안 읽은 알림 개수 재조정 실패 - userId: {}, reason: {}", userId, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private Mono<Long> fetchUpstream(String userId) {
+        return webClientProvider.getWebClient(ApiClientKey.ALARM).get()
+            .uri(uriBuilder -> uriBuilder.path("/notifications/count/{userId}")
+                .queryParam("status", "UNREAD")
+                .build(userId))
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .map(body -> body.path("data").path("count"))
+            .filter(JsonNode::isNumber)
+            .map(JsonNode::asLong);
+    }
+
+    private String key(String userId) {
+        return properties.getKeyPrefix() + userId;
+    }
+}
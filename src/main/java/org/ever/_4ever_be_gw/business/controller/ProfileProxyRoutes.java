@@ -0,0 +1,58 @@
+package org.ever._4ever_be_gw.business.controller;
+
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.BUSINESS;
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.SCM_PP;
+
+import java.time.Duration;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.cache.CacheTags;
+import org.ever._4ever_be_gw.config.proxy.PrincipalAttribute;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteDefinition;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoutes;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 프록시 라우트 (/business/profile)
+ * - 모든 경로가 로그인 사용자 본인의 userId 로 업스트림 경로를 구성합니다.
+ */
+@Component
+public class ProfileProxyRoutes implements ProxyRouteDefinition {
+
+    // 프로필은 본인 수정 요청 또는 user-event 로 무효화됨
+    private static final Duration PROFILE_TTL = Duration.ofMinutes(5);
+
+    @Override
+    public void define(ProxyRoutes routes) {
+        // 사용자 유형별 프로필 조회 (내부 직원 / 고객사 / 공급사)
+        routes.get("/business/profile").to(BUSINESS, "/hrm/employees/profile/{userId}")
+                .forUserType("CUSTOMER", BUSINESS, "/hrm/customers/profile/{userId}")
+                .forUserType("SUPPLIER", SCM_PP, "/api/scm-pp/mm/users/supplier/{userId}/profile")
+                .cache(PROFILE_TTL, CacheScope.USER)
+                .cacheTags("user:{userId}");
+
+        // 근태
+        routes.get("/business/profile/attendance-records")
+                .to(BUSINESS, "/hrm/employees/attendance-records/{userId}");
+        routes.get("/business/profile/today-attendance")
+                .to(BUSINESS, "/hrm/employees/today-attendance/{userId}");
+
+        // 교육
+        routes.get("/business/profile/trainings/in-progress")
+                .to(BUSINESS, "/hrm/employees/trainings/in-progress/{userId}");
+        routes.get("/business/profile/trainings/available")
+                .to(BUSINESS, "/hrm/employees/trainings/available/{userId}");
+        routes.get("/business/profile/trainings/completed")
+                .to(BUSINESS, "/hrm/employees/trainings/completed/{userId}");
+        routes.post("/business/profile/trainings/request")
+                .to(BUSINESS, "/hrm/internelUser/program")
+                .requiredQuery("trainingId")
+                .renameQuery("trainingId", "programId")
+                .principalQuery("internelUserId", PrincipalAttribute.USER_ID);
+
+        // 프로필 수정 (업스트림은 PATCH)
+        routes.post("/business/profile/employees/profile/update")
+                .to(BUSINESS, HttpMethod.PATCH, "/hrm/employees/profile/{userId}")
+                .invalidates("user:{userId}", CacheTags.EMPLOYEES);
+    }
+}
@@ -0,0 +1,88 @@
+package org.ever._4ever_be_gw.common.util;
+
+import java.io.OutputStream;
+import java.util.List;
+import org.ever._4ever_be_gw.config.webclient.TimeoutPolicy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 응답 스트리밍 전달 유틸
+ * - 업스트림 응답 본문을 String 으로 디코딩하지 않고 DataBuffer 단위로 서블릿 출력 스트림에 그대로 복사합니다.
+ * - 상태 코드는 그대로 전달하며 4xx/5xx 도 오류로 변환하지 않습니다.
+ * - 헤더는 허용 목록(본문 표현/캐시 검증 헤더)만 전달합니다. (업스트림 내부 헤더, Set-Cookie 등 노출 방지)
+ * - 요청당 메모리 사용량이 응답 크기와 무관하며 WebClient maxInMemorySize 제한을 받지 않습니다.
+ */
+public final class ProxyResponseUtils {
+
+    // 클라이언트에 그대로 전달할 업스트림 응답 헤더 (그 외 헤더는 전달하지 않음)
+    private static final List<String> PASS_THROUGH_HEADERS = List.of(
+        HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.CONTENT_DISPOSITION,
+        HttpHeaders.CACHE_CONTROL,
+        HttpHeaders.ETAG,
+        HttpHeaders.LAST_MODIFIED
+    );
+
+    private ProxyResponseUtils() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(WebClient.RequestHeadersSpec<?> request) {
+        ResponseEntity<Flux<DataBuffer>> upstream = exchange(request).block();
+
+        if (upstream == null) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+        StreamingResponseBody streamingBody = outputStream -> write(body, outputStream);
+
+        return ResponseEntity.status(upstream.getStatusCode())
+            .headers(passThroughHeaders(upstream.getHeaders()))
+            .body(streamingBody);
+    }
+
+    /**
+     * 업스트림 상태 코드/헤더가 도착하면 본문 스트림과 함께 emit 합니다. (블로킹 없음)
+     * - 스트리밍 요청으로 표시하여 전체 마감 시간은 헤더 수신까지만, 본문은 청크 간 유휴 시간만 적용됩니다.
+     */
+    public static Mono<ResponseEntity<Flux<DataBuffer>>> exchange(WebClient.RequestHeadersSpec<?> request) {
+        return request.attribute(TimeoutPolicy.STREAMING_ATTRIBUTE, Boolean.TRUE)
+            .retrieve()
+            .onStatus(status -> true, response -> Mono.empty()) // 업스트림 상태 코드를 오류로 변환하지 않고 그대로 전달
+            .toEntityFlux(DataBuffer.class);
+    }
+
+    /**
+     * 업스트림 본문을 출력 스트림에 복사하고 버퍼를 해제합니다.
+     */
+    public static void write(Flux<DataBuffer> body, OutputStream outputStream) {
+        DataBufferUtils.write(body, outputStream)
+            .doOnNext(DataBufferUtils::release)
+            .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+            .then()
+            .block();
+    }
+
+    public static HttpHeaders passThroughHeaders(HttpHeaders upstreamHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : PASS_THROUGH_HEADERS) {
+            List<String> values = upstreamHeaders.get(name);
+            if (values != null && !values.isEmpty()) {
+                headers.addAll(name, values);
+            }
+        }
+        if (headers.getContentType() == null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        return headers;
+    }
+}
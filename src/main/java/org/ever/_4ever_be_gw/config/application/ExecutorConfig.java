@@ -0,0 +1,61 @@
+package org.ever._4ever_be_gw.config.application;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 대시보드 워크플로우 탭 조회 전용 Executor
+    // 탭 조회는 각자 WebClient#block 으로 대기하므로 요청 스레드(Tomcat)와 분리된 풀에서 동시에 실행합니다.
+    // 풀이 가득 찬 경우 거절(AbortPolicy)하고 해당 탭은 빈 목록으로 응답합니다. (호출 스레드에서 돌리면 공통 deadline 이 깨짐)
+    @Bean("dashboardWorkflowExecutor")
+    public ThreadPoolTaskExecutor dashboardWorkflowExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("dashboard-workflow-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // Kafka 멀티 토픽 배치 리스너의 토픽 그룹 병렬 처리 전용 Executor
+    // 컨테이너(3) × 토픽(4) 만큼 동시에 돌 수 있고, 대기열은 그만큼만 둡니다.
+    // 넘치면 거절(AbortPolicy)하고 해당 그룹은 되감아 다음 poll 에서 다시 처리합니다. (리스너 스레드에서 돌리면 group-timeout 이 깨짐)
+    @Bean("kafkaBatchExecutor")
+    public ThreadPoolTaskExecutor kafkaBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(12);
+        executor.setQueueCapacity(12);
+        executor.setThreadNamePrefix("kafka-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // Kafka 키 순서 보장 병렬 처리 전용 Executor (키 그룹 하나가 작업 하나)
+    // 파티션 수가 아니라 코어 수만큼 동시에 처리하고, 넘치면 리스너 스레드에서 직접 처리해 poll 속도를 늦춥니다.
+    @Bean("kafkaKeyOrderedExecutor")
+    public ThreadPoolTaskExecutor kafkaKeyOrderedExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores * 2);
+        executor.setQueueCapacity(256);
+        executor.setThreadNamePrefix("kafka-key-ordered-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
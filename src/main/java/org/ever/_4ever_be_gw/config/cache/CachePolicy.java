@@ -0,0 +1,18 @@
+package org.ever._4ever_be_gw.config.cache;
+
+import java.time.Duration;
+
+/**
+ * 라우트별 응답 캐시 정책 (TTL + 공유 범위)
+ */
+public record CachePolicy(Duration ttl, CacheScope scope) {
+
+    public CachePolicy {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("응답 캐시 TTL 은 0보다 커야 합니다.");
+        }
+        if (scope == null) {
+            scope = CacheScope.GLOBAL;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.ever._4ever_be_gw.config.cache;
+
+/**
+ * 응답 캐시 공유 범위
+ * - GLOBAL: 모든 사용자가 같은 캐시 항목 사용 (토글/코드 목록 등)
+ * - ROLE: 같은 권한(userRole)끼리 공유
+ * - USER: 사용자(userId)별 캐시
+ */
+public enum CacheScope {
+    GLOBAL, ROLE, USER
+}
@@ -0,0 +1,79 @@
+package org.ever._4ever_be_gw.config.cache;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import org.ever.event.BusinessEvent;
+import org.ever.event.ScmEvent;
+import org.ever.event.UserEvent;
+import org.springframework.util.StringUtils;
+
+/**
+ * 응답 캐시 태그 이름 및 도메인 이벤트 → 태그 매핑
+ * - 라우트는 ProxyRoutes DSL 의 cacheTags(...) 로 태그를 선언합니다. (예: "product:{itemId}")
+ * - 이벤트가 수신되면 이벤트 종류와 키(productId, warehouseId, userId)로 무효화할 태그를 계산합니다.
+ * - 캐시된 라우트가 선언하는 태그만 매핑합니다. (주문/송장 응답은 캐시하지 않으므로 해당 이벤트는 사용자 태그만 무효화)
+ */
+public final class CacheTags {
+
+    // 목록/통계처럼 개별 키로 특정할 수 없는 데이터 묶음
+    public static final String INVENTORY = "inventory";
+    public static final String EMPLOYEES = "employees";
+
+    private CacheTags() {
+    }
+
+    public static String product(String productId) {
+        return "product:" + productId;
+    }
+
+    public static String warehouse(String warehouseId) {
+        return "warehouse:" + warehouseId;
+    }
+
+    public static String user(String userId) {
+        return "user:" + userId;
+    }
+
+    public static Set<String> forEvent(ScmEvent event) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (event.getAction() == null) {
+            return tags;
+        }
+        switch (event.getAction()) {
+            case STOCK_RESERVED, STOCK_RELEASED, SHIPMENT_CREATED, SHIPMENT_COMPLETED -> {
+                tags.add(INVENTORY);
+                addIfPresent(tags, event.getProductId(), CacheTags::product);
+                addIfPresent(tags, event.getWarehouseId(), CacheTags::warehouse);
+            }
+        }
+        return tags;
+    }
+
+    public static Set<String> forEvent(BusinessEvent event) {
+        Set<String> tags = new LinkedHashSet<>();
+        addIfPresent(tags, event.getUserId(), CacheTags::user);
+        return tags;
+    }
+
+    public static Set<String> forEvent(UserEvent event) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (event.getAction() == null) {
+            return tags;
+        }
+        switch (event.getAction()) {
+            // 사용자 추가/수정/삭제는 담당자 토글 등 직원 목록에도 영향
+            case CREATED, UPDATED, DELETED -> tags.add(EMPLOYEES);
+            default -> {
+            }
+        }
+        addIfPresent(tags, event.getUserId(), CacheTags::user);
+        return tags;
+    }
+
+    private static void addIfPresent(Set<String> tags, String id, UnaryOperator<String> tagOf) {
+        if (StringUtils.hasText(id)) {
+            tags.add(tagOf.apply(id));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.ever._4ever_be_gw.config.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 캐시된 업스트림 응답 (직렬화된 본문 바이트 그대로 보관)
+ * - L2(Redis) 에는 toBytes() 결과를 저장하며, 적중 시 JSON 역직렬화/재직렬화 없이 본문을 그대로 내려줍니다.
+ * - tags: 무효화 대상 태그 (예: inventory, product:{productId})
+ */
+public record CachedResponse(int status, String contentType, byte[] body, long expiresAtMillis, List<String> tags) {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    public CachedResponse {
+        tags = tags != null ? List.copyOf(tags) : List.of();
+    }
+
+    public boolean hasAnyTag(Collection<String> candidates) {
+        for (String tag : tags) {
+            if (candidates.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long remainingMillis(long nowMillis) {
+        return expiresAtMillis - nowMillis;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(status);
+            out.writeUTF(contentType != null ? contentType : "");
+            out.writeLong(expiresAtMillis);
+            out.writeInt(tags.size());
+            for (String tag : tags) {
+                out.writeUTF(tag);
+            }
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // 알 수 없는 형식이면 null (캐시 미스로 처리)
+    public static CachedResponse fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            int status = in.readInt();
+            String contentType = in.readUTF();
+            long expiresAtMillis = in.readLong();
+            int tagCount = in.readInt();
+            List<String> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(in.readUTF());
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CachedResponse(status, contentType.isEmpty() ? null : contentType, body, expiresAtMillis, tags);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
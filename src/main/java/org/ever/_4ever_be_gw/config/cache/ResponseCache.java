@@ -0,0 +1,402 @@
+package org.ever._4ever_be_gw.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 2단계 응답 캐시
+ * - L1: 노드 내 Caffeine 캐시 (가중치 = 본문 크기 + 키 + 항목당 오버헤드, 항목별 만료)
+ * - L2: Redis (직렬화된 바이트 저장, 라우트 TTL 로 만료)
+ * - L2 장애 시 캐시 미스로 처리하고 업스트림 호출을 계속합니다.
+ * - 태그 무효화: Redis 태그 인덱스(태그 → 키 Set)로 L2 항목을 삭제하고,
+ *   Redis pub/sub 으로 모든 노드에 알려 각 노드의 L1 항목도 제거합니다.
+ *   (이벤트는 컨슈머 그룹 안에서 한 노드만 받으므로 L2 사용 여부와 관계없이 항상 발행하고, 자기 자신이 발행한 메시지는 무시)
+ * - L1 은 노드 내 태그 인덱스(태그 → 키 Set)로 해당 키만 제거합니다. (L1 전체를 훑지 않음)
+ *   인덱스는 실제보다 많은 키를 가질 수 있으나, 제거 시 항목의 태그를 다시 확인하므로 다른 항목은 지워지지 않습니다.
+ * - 무효화 시 태그별 세대(generation) 값을 올리고(L1: 노드 내, L2: Redis), 업스트림 조회 시작 시점의 세대와 다르면 저장하지 않습니다.
+ *   (조회하는 동안 무효화가 끼어들면 오래된 응답이 TTL 동안 캐시에 남는 것을 방지)
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    // 태그별 세대가 모두 스냅샷과 같을 때만 값 저장 + 태그 인덱스 갱신
+    // KEYS: 값 키, 태그 인덱스 키 n개, 세대 키 n개 / ARGV: 값, TTL, 태그 인덱스 TTL, 세대 n개
+    private static final byte[] STORE_IF_CURRENT = (
+            "local n = (#KEYS - 1) / 2 "
+                    + "for i = 1, n do "
+                    + "  if (redis.call('GET', KEYS[1 + n + i]) or '0') ~= ARGV[3 + i] then return 0 end "
+                    + "end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "for i = 1, n do "
+                    + "  redis.call('SADD', KEYS[1 + i], KEYS[1]) "
+                    + "  redis.call('PEXPIRE', KEYS[1 + i], ARGV[3]) "
+                    + "end "
+                    + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final ResponseCacheProperties properties;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Cache<String, CachedResponse> l1;
+    private final Map<String, Set<String>> l1TagIndex = new ConcurrentHashMap<>();
+    // 노드 내 태그별 세대 (무효화된 적 있는 태그만 보관) 와 전체 무효화 횟수 (L2 적중 항목을 L1 에 올릴 때 사용)
+    private final Map<String, Long> localGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong localInvalidations = new AtomicLong();
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+    private final String invalidationChannel;
+    // pub/sub 으로 돌아온 자기 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ResponseCache(
+            ResponseCacheProperties properties,
+            @Qualifier("byteArrayRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.l1 = Caffeine.newBuilder()
+                .maximumWeight(properties.getL1MaxWeightBytes())
+                .weigher((String key, CachedResponse value) -> weigh(key, value))
+                .expireAfter(new L1Expiry(properties.getL1MaxTtlMillis()))
+                .evictionListener((String key, CachedResponse value, RemovalCause cause) -> unindexLocal(key, value))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "gateway.response-cache.l1");
+        this.l1HitCounter = lookupCounter(meterRegistry, "l1-hit");
+        this.l2HitCounter = lookupCounter(meterRegistry, "l2-hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.invalidationChannel = properties.getKeyPrefix() + "invalidate";
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(message.getBody()),
+                new ChannelTopic(invalidationChannel));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 캐시 키: 접두사 + 클라이언트 키 + 공유 범위 값 + 업스트림 경로/정규화된 쿼리
+     */
+    public String key(ApiClientKey clientKey, String scopeValue, String pathAndQuery) {
+        return properties.getKeyPrefix() + clientKey.getPropertyKey() + ":" + scopeValue + ":" + pathAndQuery;
+    }
+
+    public Mono<CachedResponse> get(String key) {
+        CachedResponse local = l1.getIfPresent(key);
+        if (local != null && local.remainingMillis(System.currentTimeMillis()) > 0) {
+            l1HitCounter.increment();
+            return Mono.just(local);
+        }
+        if (!properties.isL2Enabled()) {
+            missCounter.increment();
+            return Mono.empty();
+        }
+
+        long invalidations = localInvalidations.get();
+        return Mono.fromCallable(() -> redisTemplate.opsForValue().get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .mapNotNull(CachedResponse::fromBytes)
+                .filter(remote -> remote.remainingMillis(System.currentTimeMillis()) > 0)
+                .doOnNext(remote -> {
+                    l2HitCounter.increment();
+                    // 조회하는 동안 이 노드에서 무효화가 있었다면 삭제 전 값을 읽었을 수 있으므로 L1 에 올리지 않음
+                    putLocalIfCurrent(key, remote, () -> localInvalidations.get() == invalidations);
+                })
+                .onErrorResume(e -> {
+                    log.warn("[WARN] 응답 캐시 L2 조회 실패 - key: {}, reason: {}", key, e.getMessage());
+                    return Mono.empty();
+                })
+                .doOnSuccess(remote -> {
+                    if (remote == null) {
+                        missCounter.increment();
+                    }
+                });
+    }
+
+    /**
+     * 태그별 현재 세대를 반환합니다. 업스트림 조회 전에 읽어 두고 put 에 넘깁니다.
+     * L2 세대를 읽지 못하면 remote 는 null 이 되어 L2 에는 저장하지 않습니다.
+     */
+    public Mono<Generation> generation(List<String> tags) {
+        Map<String, Long> local = new LinkedHashMap<>();
+        tags.forEach(tag -> local.put(tag, localGenerations.getOrDefault(tag, 0L)));
+        if (!properties.isL2Enabled() || tags.isEmpty()) {
+            return Mono.just(new Generation(local, Map.of()));
+        }
+        return Mono.fromCallable(() -> new Generation(local, remoteGenerations(tags)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[WARN] 응답 캐시 세대 조회 실패 - tags: {}, reason: {}", tags, e.getMessage());
+                    return Mono.just(new Generation(local, null));
+                });
+    }
+
+    /**
+     * generation 이후 태그가 무효화되지 않았을 때만 저장합니다.
+     */
+    public void put(String key, CachedResponse response, Generation generation) {
+        if (response.body().length > properties.getMaxBodyBytes()) {
+            return;
+        }
+        long ttlMillis = response.remainingMillis(System.currentTimeMillis());
+        if (ttlMillis <= 0) {
+            return;
+        }
+        putLocalIfCurrent(key, response, () -> generation.isLocalCurrent(localGenerations));
+
+        if (properties.isL2Enabled() && generation.remote() != null) {
+            Mono.fromRunnable(() -> storeRemote(key, response, ttlMillis, generation.remote()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnError(e -> log.warn("[WARN] 응답 캐시 L2 저장 실패 - key: {}, reason: {}", key, e.getMessage()))
+                    .onErrorComplete()
+                    .subscribe();
+        }
+    }
+
+    // 요청 처리(이벤트 루프) 스레드에서 Redis 를 블로킹 호출하지 않도록 별도 스케줄러에서 무효화
+    public void invalidateTagsAsync(Collection<String> tags) {
+        Mono.fromRunnable(() -> invalidateTags(tags))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnError(e -> log.warn("[WARN] 응답 캐시 태그 무효화 실패 - tags: {}, reason: {}", tags, e.getMessage()))
+                .onErrorComplete()
+                .subscribe();
+    }
+
+    /**
+     * 태그가 붙은 캐시 항목을 모든 노드의 L1 과 L2 에서 제거합니다.
+     */
+    public void invalidateTags(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        evictLocal(tags);
+        int removed = properties.isL2Enabled() ? evictRemote(tags) : 0;
+        publishInvalidation(tags);
+        log.info("[INFO] 응답 캐시 태그 무효화 - tags: {}, keys: {}", tags, removed);
+    }
+
+    public void evict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        l1.invalidateAll(keys);
+        if (properties.isL2Enabled()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    // 태그 인덱스로 찾은 L2 항목과 인덱스 키를 삭제하고, 삭제한 캐시 항목 수를 반환
+    private int evictRemote(Collection<String> tags) {
+        // 세대를 먼저 올려, 이후 진행 중인 조회의 저장이 거부되도록 함 (이미 저장된 항목은 아래에서 삭제)
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tag : tags) {
+                byte[] generationKey = generationKey(tag).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(generationKey);
+                connection.keyCommands().pExpire(generationKey, properties.getTagIndexTtlMillis());
+            }
+            return null;
+        });
+
+        Set<String> keys = new HashSet<>();
+        List<String> tagKeys = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            String tagKey = tagKey(tag);
+            tagKeys.add(tagKey);
+            Set<byte[]> members = redisTemplate.opsForSet().members(tagKey);
+            if (members != null) {
+                members.forEach(member -> keys.add(new String(member, StandardCharsets.UTF_8)));
+            }
+        }
+        int removed = keys.size();
+        keys.addAll(tagKeys);
+        redisTemplate.delete(keys);
+        return removed;
+    }
+
+    // 메시지 형식: 첫 줄 발행 노드 ID, 이후 줄마다 태그
+    private void publishInvalidation(Collection<String> tags) {
+        String message = nodeId + "\n" + String.join("\n", tags);
+        redisTemplate.convertAndSend(invalidationChannel, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void onInvalidation(byte[] body) {
+        String[] lines = new String(body, StandardCharsets.UTF_8).split("\n");
+        if (lines.length < 2 || nodeId.equals(lines[0])) {
+            return;
+        }
+        evictLocal(Arrays.asList(lines).subList(1, lines.length));
+    }
+
+    // 세대 확인 + 값 저장 + 태그 인덱스 갱신을 스크립트 한 번으로 처리
+    private void storeRemote(String key, CachedResponse response, long ttlMillis, Map<String, String> generations) {
+        int tagCount = generations.size();
+        byte[][] keysAndArgs = new byte[1 + tagCount * 2 + 3 + tagCount][];
+        keysAndArgs[0] = key.getBytes(StandardCharsets.UTF_8);
+        int argsAt = 1 + tagCount * 2;
+        keysAndArgs[argsAt] = response.toBytes();
+        keysAndArgs[argsAt + 1] = Long.toString(ttlMillis).getBytes(StandardCharsets.UTF_8);
+        keysAndArgs[argsAt + 2] = Long.toString(properties.getTagIndexTtlMillis()).getBytes(StandardCharsets.UTF_8);
+        int i = 0;
+        for (Map.Entry<String, String> entry : generations.entrySet()) {
+            keysAndArgs[1 + i] = tagKey(entry.getKey()).getBytes(StandardCharsets.UTF_8);
+            keysAndArgs[1 + tagCount + i] = generationKey(entry.getKey()).getBytes(StandardCharsets.UTF_8);
+            keysAndArgs[argsAt + 3 + i] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            i++;
+        }
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                STORE_IF_CURRENT, ReturnType.INTEGER, 1 + tagCount * 2, keysAndArgs));
+    }
+
+    private Map<String, String> remoteGenerations(List<String> tags) {
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(tags.stream().map(this::generationKey).toList());
+        Map<String, String> generations = new LinkedHashMap<>();
+        for (int i = 0; i < tags.size(); i++) {
+            byte[] value = values != null ? values.get(i) : null;
+            generations.put(tags.get(i), value != null ? new String(value, StandardCharsets.UTF_8) : "0");
+        }
+        return generations;
+    }
+
+    // 저장 전후로 인덱스에 등록
+    // (저장 전: 저장 직후의 무효화가 항목을 찾을 수 있도록, 저장 후: 같은 키의 만료 리스너가 먼저 지운 경우 복구)
+    // 저장 뒤 다시 확인해, 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 항목을 제거
+    // (무효화는 세대를 먼저 올린 뒤 항목을 지우므로, 둘 중 한쪽은 반드시 항목을 제거함)
+    private void putLocalIfCurrent(String key, CachedResponse response, BooleanSupplier current) {
+        if (!current.getAsBoolean()) {
+            return;
+        }
+        indexLocal(key, response);
+        l1.put(key, response);
+        indexLocal(key, response);
+        if (!current.getAsBoolean()) {
+            l1.asMap().remove(key, response);
+        }
+    }
+
+    private void indexLocal(String key, CachedResponse response) {
+        for (String tag : response.tags()) {
+            l1TagIndex.compute(tag, (t, keys) -> {
+                Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                return indexed;
+            });
+        }
+    }
+
+    private void unindexLocal(String key, CachedResponse response) {
+        if (response == null) {
+            return;
+        }
+        for (String tag : response.tags()) {
+            l1TagIndex.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private void evictLocal(Collection<String> tags) {
+        tags.forEach(tag -> localGenerations.merge(tag, 1L, Long::sum));
+        localInvalidations.incrementAndGet();
+        for (String tag : tags) {
+            Set<String> keys = l1TagIndex.remove(tag);
+            if (keys == null) {
+                continue;
+            }
+            // 인덱스가 오래된 경우에 대비해 항목의 태그를 다시 확인한 뒤 제거
+            for (String key : keys) {
+                l1.asMap().computeIfPresent(key, (k, cached) -> cached.hasAnyTag(tags) ? null : cached);
+            }
+        }
+    }
+
+    private String tagKey(String tag) {
+        return properties.getKeyPrefix() + "tag:" + tag;
+    }
+
+    private String generationKey(String tag) {
+        return properties.getKeyPrefix() + "gen:" + tag;
+    }
+
+    private int weigh(String key, CachedResponse value) {
+        long weight = (long) value.body().length + key.length() * 2L + properties.getL1EntryOverheadBytes();
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.response-cache.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업스트림 조회 전 태그별 세대 스냅샷
+     *
+     * @param local  노드 내 세대 (L1 저장 판단)
+     * @param remote Redis 세대 (L2 저장 판단, 조회 실패 시 null → L2 저장 생략)
+     */
+    public record Generation(Map<String, Long> local, Map<String, String> remote) {
+
+        boolean isLocalCurrent(Map<String, Long> generations) {
+            for (Map.Entry<String, Long> entry : local.entrySet()) {
+                if (generations.getOrDefault(entry.getKey(), 0L).longValue() != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // 항목별 남은 TTL 과 L1 최대 보관 시간 중 짧은 쪽으로 만료
+    private record L1Expiry(long maxTtlMillis) implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            long remaining = Math.min(value.remainingMillis(System.currentTimeMillis()), maxTtlMillis);
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.ever._4ever_be_gw.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 캐시 설정 (gateway.response-cache)
+ * - TTL/공유 범위는 라우트(ProxyRoutes DSL)별로 지정하고, 여기서는 저장소 한도만 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // L1(in-process) 최대 가중치: 본문 바이트 + 키 + 항목당 오버헤드 합계
+    private long l1MaxWeightBytes = 64L * 1024 * 1024;
+    // 항목당 고정 오버헤드 (작은 항목이 많을 때 항목 수도 함께 제한되도록 함)
+    private int l1EntryOverheadBytes = 512;
+    // L1 최대 보관 시간 (라우트 TTL 보다 짧게 두어 노드 간 불일치 시간을 제한)
+    private long l1MaxTtlMillis = 30_000;
+
+    // L2(Redis) 사용 여부 및 키 접두사
+    private boolean l2Enabled = true;
+    private String keyPrefix = "gw:rc:";
+
+    // Redis 태그 인덱스(태그 → 캐시 키 Set) 보관 시간, 항목 추가 시마다 갱신
+    private long tagIndexTtlMillis = 24L * 60 * 60 * 1000;
+
+    // 캐시 대상 응답 본문 최대 크기 (초과 시 저장하지 않음)
+    private int maxBodyBytes = 1024 * 1024;
+}
@@ -0,0 +1,37 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.util.function.Function;
+import lombok.Getter;
+import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
+
+/**
+ * 프록시 라우트에서 인증 사용자 정보로부터 채워 넣을 수 있는 값
+ * - 업스트림 경로 템플릿에서는 variableName 으로 참조합니다. (예: /hrm/employees/profile/{userId})
+ */
+@Getter
+public enum PrincipalAttribute {
+    USER_ID("userId", EverUserPrincipal::getUserId),
+    USER_TYPE("userType", EverUserPrincipal::getUserType),
+    USER_ROLE("userRole", EverUserPrincipal::getUserRole);
+
+    private final String variableName;
+    private final Function<EverUserPrincipal, String> extractor;
+
+    PrincipalAttribute(String variableName, Function<EverUserPrincipal, String> extractor) {
+        this.variableName = variableName;
+        this.extractor = extractor;
+    }
+
+    public String resolve(EverUserPrincipal principal) {
+        return extractor.apply(principal);
+    }
+
+    static PrincipalAttribute fromVariableName(String variableName) {
+        for (PrincipalAttribute attribute : values()) {
+            if (attribute.variableName.equals(variableName)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+}
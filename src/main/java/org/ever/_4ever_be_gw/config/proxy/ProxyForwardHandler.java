@@ -0,0 +1,217 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.common.exception.BusinessException;
+import org.ever._4ever_be_gw.common.exception.ErrorCode;
+import org.ever._4ever_be_gw.common.util.ProxyResponseUtils;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.cache.CachedResponse;
+import org.ever._4ever_be_gw.config.cache.ResponseCache;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.UpstreamTarget;
+import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
+import org.ever._4ever_be_gw.config.webclient.WebClientProvider;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 프록시 라우트 공통 전달 파이프라인
+ * - 권한 확인 → 업스트림 대상/경로 변수/쿼리 구성 → WebClient 호출 → 응답 스트리밍 순서로 처리합니다.
+ * - 업스트림 응답 헤더를 기다리는 동안 요청 스레드를 점유하지 않도록 비동기(ServerResponse.async)로 응답합니다.
+ * - 캐시 정책이 있는 GET 라우트는 ResponseCache(L1/L2) 를 먼저 조회합니다.
+ * - 변경 라우트는 업스트림 2xx 응답 시 선언된 태그의 캐시 항목을 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProxyForwardHandler {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final WebClientProvider webClientProvider;
+    private final ResponseCache responseCache;
+
+    public ServerResponse forward(ProxyRouteTable.Match match, ServerRequest request) throws Exception {
+        ProxyRoute route = match.route();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        EverUserPrincipal principal = authentication != null
+                && authentication.getPrincipal() instanceof EverUserPrincipal everUserPrincipal
+                ? everUserPrincipal : null;
+
+        authorize(route, authentication);
+        if (route.isPrincipalRequired() && principal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        UpstreamTarget target = route.resolveTarget(principal);
+        Map<String, String> variables = route.resolveVariables(match.pathVariables(), principal);
+        MultiValueMap<String, String> query = route.resolveQuery(request.params(), match.pathVariables(), principal);
+        byte[] body = route.forwardsBody()
+                ? StreamUtils.copyToByteArray(request.servletRequest().getInputStream())
+                : new byte[0];
+
+        WebClient.RequestBodySpec spec = webClientProvider.getWebClient(target.clientKey())
+                .method(target.method())
+                .uri(uriBuilder -> buildUri(uriBuilder, target.path(), query, variables))
+                .accept(MediaType.APPLICATION_JSON);
+        WebClient.RequestHeadersSpec<?> upstreamRequest = body.length > 0
+                ? spec.contentType(request.headers().contentType().orElse(MediaType.APPLICATION_JSON)).bodyValue(body)
+                : spec;
+
+        if (route.isCacheable() && responseCache.isEnabled()) {
+            String scopeValue = scopeValue(route.getCachePolicy().scope(), principal);
+            if (scopeValue != null) {
+                String cacheKey = responseCache.key(target.clientKey(), scopeValue,
+                        pathAndQuery(target.path(), variables, query));
+                List<String> tags = ProxyRoute.resolveTags(route.getCacheTags(), variables);
+                return ServerResponse.async(cached(route, cacheKey, tags, upstreamRequest));
+            }
+        }
+
+        List<String> invalidateTags = ProxyRoute.resolveTags(route.getInvalidateTags(), variables);
+        Mono<ServerResponse> response = ProxyResponseUtils.exchange(upstreamRequest)
+                .doOnNext(entity -> {
+                    if (!invalidateTags.isEmpty() && entity.getStatusCode().is2xxSuccessful()) {
+                        responseCache.invalidateTagsAsync(invalidateTags);
+                    }
+                })
+                .map(ProxyForwardHandler::toServerResponse)
+                .switchIfEmpty(Mono.fromSupplier(() -> ServerResponse.status(HttpStatus.BAD_GATEWAY).build()));
+
+        return ServerResponse.async(response);
+    }
+
+    /**
+     * 캐시 적중 시 저장된 바이트를 그대로 응답하고, 미스 시 업스트림 응답을 바이트로 받아 2xx 만 저장합니다.
+     */
+    private Mono<ServerResponse> cached(ProxyRoute route, String cacheKey, List<String> tags,
+                                        WebClient.RequestHeadersSpec<?> upstreamRequest) {
+        return responseCache.get(cacheKey)
+                .map(hit -> toServerResponse(hit, "HIT"))
+                // 조회 전 세대를 읽어 두고, 조회 중 무효화되었으면 저장하지 않음
+                .switchIfEmpty(Mono.defer(() -> responseCache.generation(tags).flatMap(generation -> upstreamRequest
+                        .retrieve()
+                        .onStatus(status -> true, response -> Mono.empty())
+                        .toEntity(byte[].class)
+                        .map(entity -> {
+                            MediaType contentType = entity.getHeaders().getContentType();
+                            CachedResponse fresh = new CachedResponse(
+                                    entity.getStatusCode().value(),
+                                    contentType != null ? contentType.toString() : null,
+                                    entity.getBody() != null ? entity.getBody() : new byte[0],
+                                    System.currentTimeMillis() + route.getCachePolicy().ttl().toMillis(),
+                                    tags);
+                            if (entity.getStatusCode().is2xxSuccessful()) {
+                                responseCache.put(cacheKey, fresh, generation);
+                            }
+                            return toServerResponse(fresh, "MISS");
+                        }))));
+    }
+
+    // 캐시 공유 범위 값 (인증 사용자가 없어 범위를 정할 수 없으면 null → 캐시 미사용)
+    private static String scopeValue(CacheScope scope, EverUserPrincipal principal) {
+        return switch (scope) {
+            case GLOBAL -> "global";
+            case ROLE -> principal != null && principal.getUserRole() != null ? "role=" + principal.getUserRole() : null;
+            case USER -> principal != null && principal.getUserId() != null ? "user=" + principal.getUserId() : null;
+        };
+    }
+
+    // 캐시 키용 업스트림 경로 + 이름순 정렬된 쿼리
+    private static String pathAndQuery(String path, Map<String, String> variables,
+                                       MultiValueMap<String, String> query) {
+        StringBuilder key = new StringBuilder(
+                UriComponentsBuilder.fromPath(path).buildAndExpand(variables).toUriString());
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(query).entrySet()) {
+            for (String value : entry.getValue()) {
+                key.append(separator).append(entry.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static void authorize(ProxyRoute route, Authentication authentication) {
+        if (route.getAuthorities().isEmpty()) {
+            return;
+        }
+        boolean granted = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(route.getAuthorities()::contains);
+        if (!granted) {
+            log.warn("[WARN] 프록시 라우트 권한 거부 - route: {}, required: {}", route.getId(), route.getAuthorities());
+            throw new AuthorizationDeniedException("Access Denied");
+        }
+    }
+
+    // 쿼리 값은 URI 변수로 넘겨 인코딩되도록 합니다. (값에 포함된 '{', '}' 가 템플릿으로 해석되지 않도록)
+    private static URI buildUri(UriBuilder uriBuilder, String path, MultiValueMap<String, String> query,
+                                Map<String, String> variables) {
+        Map<String, Object> uriVariables = new HashMap<>(variables);
+        uriBuilder.path(path);
+        int index = 0;
+        for (Map.Entry<String, List<String>> entry : query.entrySet()) {
+            for (String value : entry.getValue()) {
+                String placeholder = "__q" + index++;
+                uriBuilder.queryParam(entry.getKey(), "{" + placeholder + "}");
+                uriVariables.put(placeholder, value);
+            }
+        }
+        return uriBuilder.build(uriVariables);
+    }
+
+    private static ServerResponse toServerResponse(ResponseEntity<Flux<DataBuffer>> upstream) {
+        Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+        return ServerResponse.status(upstream.getStatusCode())
+                .headers(headers -> headers.addAll(ProxyResponseUtils.passThroughHeaders(upstream.getHeaders())))
+                .build((servletRequest, servletResponse) -> {
+                    try {
+                        ProxyResponseUtils.write(body, servletResponse.getOutputStream());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
+    }
+
+    private static ServerResponse toServerResponse(CachedResponse cached, String cacheStatus) {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(cached.status())
+                .header(CACHE_STATUS_HEADER, cacheStatus);
+        builder.contentType(cached.contentType() != null
+                ? MediaType.parseMediaType(cached.contentType())
+                : MediaType.APPLICATION_JSON);
+        return builder.build((servletRequest, servletResponse) -> {
+            servletResponse.setContentLength(cached.body().length);
+            try {
+                servletResponse.getOutputStream().write(cached.body());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,192 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import lombok.Getter;
+import org.ever._4ever_be_gw.config.cache.CachePolicy;
+import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
+import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.util.pattern.PathPattern;
+
+/**
+ * 게이트웨이 경로 → 업스트림 경로 매핑 한 건 (ProxyRoutes DSL 로 생성)
+ * - 게이트웨이 경로는 기동 시 PathPattern 으로 사전 컴파일됩니다.
+ * - 업스트림 경로 템플릿의 변수는 게이트웨이 경로 변수 또는 PrincipalAttribute 로 채워집니다.
+ */
+@Getter
+public final class ProxyRoute {
+
+    private final String id;
+    private final HttpMethod method;
+    private final PathPattern pattern;
+    private final UpstreamTarget defaultTarget;
+    private final Map<String, UpstreamTarget> userTypeTargets;
+    private final Set<String> authorities;
+    private final List<QueryRule> queryRules;
+    // 클라이언트가 보낸 값을 업스트림으로 전달할 쿼리 파라미터 이름 (허용 목록)
+    private final Set<String> allowedQuery;
+    private final boolean principalRequired;
+    // 응답 캐시 정책 (null: 캐시하지 않음, GET 라우트만 지정 가능)
+    private final CachePolicy cachePolicy;
+    // 캐시 항목에 붙일 태그 / 요청 성공(2xx) 시 무효화할 태그 (템플릿, 예: "product:{itemId}")
+    private final List<String> cacheTags;
+    private final List<String> invalidateTags;
+
+    ProxyRoute(HttpMethod method, PathPattern pattern, UpstreamTarget defaultTarget,
+               Map<String, UpstreamTarget> userTypeTargets, Set<String> authorities,
+               List<QueryRule> queryRules, Set<String> allowedQuery, boolean principalRequired, CachePolicy cachePolicy,
+               List<String> cacheTags, List<String> invalidateTags) {
+        this.id = method.name() + " " + pattern.getPatternString();
+        this.method = method;
+        this.pattern = pattern;
+        this.defaultTarget = defaultTarget;
+        this.userTypeTargets = Map.copyOf(userTypeTargets);
+        this.authorities = Set.copyOf(authorities);
+        this.queryRules = List.copyOf(queryRules);
+        this.allowedQuery = Set.copyOf(allowedQuery);
+        this.principalRequired = principalRequired;
+        this.cachePolicy = cachePolicy;
+        this.cacheTags = List.copyOf(cacheTags);
+        this.invalidateTags = List.copyOf(invalidateTags);
+    }
+
+    /**
+     * 요청 메서드/경로가 일치하면 경로 변수를 담은 매칭 정보를, 아니면 null 을 반환합니다.
+     */
+    PathPattern.PathMatchInfo match(HttpMethod requestMethod, PathContainer path) {
+        if (!method.equals(requestMethod)) {
+            return null;
+        }
+        return pattern.matchAndExtract(path);
+    }
+
+    public boolean isCacheable() {
+        return cachePolicy != null;
+    }
+
+    // 요청 본문을 업스트림으로 전달하는 메서드인지 여부
+    public boolean forwardsBody() {
+        return method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH;
+    }
+
+    /**
+     * 사용자 유형(INTERNAL / SUPPLIER / CUSTOMER)별 업스트림이 지정되어 있으면 그 대상을, 아니면 기본 대상을 반환합니다.
+     */
+    public UpstreamTarget resolveTarget(EverUserPrincipal principal) {
+        if (principal != null && StringUtils.hasText(principal.getUserType())) {
+            UpstreamTarget target = userTypeTargets.get(principal.getUserType().toUpperCase(Locale.ROOT));
+            if (target != null) {
+                return target;
+            }
+        }
+        return defaultTarget;
+    }
+
+    /**
+     * 업스트림 경로 템플릿 변수 값을 구성합니다. 게이트웨이 경로 변수가 인증 사용자 정보보다 우선합니다.
+     */
+    public Map<String, String> resolveVariables(Map<String, String> pathVariables, EverUserPrincipal principal) {
+        Map<String, String> variables = new HashMap<>();
+        if (principal != null) {
+            for (PrincipalAttribute attribute : PrincipalAttribute.values()) {
+                String value = attribute.resolve(principal);
+                if (value != null) {
+                    variables.put(attribute.getVariableName(), value);
+                }
+            }
+        }
+        variables.putAll(pathVariables);
+        return variables;
+    }
+
+    /**
+     * 태그 템플릿의 {변수} 를 경로 변수/인증 사용자 값으로 치환합니다.
+     */
+    public static List<String> resolveTags(List<String> templates, Map<String, String> variables) {
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+        return templates.stream()
+                .map(template -> ProxyRoutes.TEMPLATE_VARIABLE.matcher(template)
+                        .replaceAll(match -> Matcher.quoteReplacement(
+                                variables.getOrDefault(match.group(1), ""))))
+                .toList();
+    }
+
+    /**
+     * 업스트림으로 전달할 쿼리 파라미터를 구성합니다.
+     * - 들어온 쿼리 파라미터 중 허용 목록(queryParams + default/required/rename 규칙 이름)에 있는 것만 전달하고,
+     *   라우트에 선언된 규칙을 선언 순서대로 적용합니다.
+     * - 인증 사용자/경로 변수에서 채우는 값은 클라이언트가 보낸 값을 덮어씁니다.
+     */
+    public MultiValueMap<String, String> resolveQuery(MultiValueMap<String, String> incoming,
+                                                      Map<String, String> pathVariables,
+                                                      EverUserPrincipal principal)
+            throws MissingServletRequestParameterException {
+        MultiValueMap<String, String> query = new LinkedMultiValueMap<>();
+        incoming.forEach((name, values) -> {
+            if (!allowedQuery.contains(name)) {
+                return;
+            }
+            List<String> present = values.stream().filter(StringUtils::hasText).toList();
+            if (!present.isEmpty()) {
+                query.put(name, new ArrayList<>(present));
+            }
+        });
+
+        for (QueryRule rule : queryRules) {
+            switch (rule.source()) {
+                case DEFAULT -> {
+                    if (!query.containsKey(rule.name())) {
+                        query.add(rule.name(), rule.value());
+                    }
+                }
+                case REQUIRED -> {
+                    if (!query.containsKey(rule.name())) {
+                        throw new MissingServletRequestParameterException(rule.name(), "String");
+                    }
+                }
+                case FIXED -> query.set(rule.name(), rule.value());
+                case RENAME -> {
+                    List<String> values = query.remove(rule.name());
+                    if (values != null) {
+                        query.put(rule.value(), values);
+                    }
+                }
+                case PRINCIPAL -> query.set(rule.name(), rule.attribute().resolve(principal));
+                case PATH_VARIABLE -> query.set(rule.name(), pathVariables.get(rule.value()));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * 업스트림 대상 (클라이언트 키 + 메서드 + 경로 템플릿)
+     */
+    public record UpstreamTarget(ApiClientKey clientKey, HttpMethod method, String path) {
+    }
+
+    /**
+     * 쿼리 파라미터 규칙
+     * - DEFAULT: 값이 없으면 기본값 사용 / REQUIRED: 값이 없으면 400
+     * - FIXED: 항상 고정값 / RENAME: name → value 로 이름 변경
+     * - PRINCIPAL: 인증 사용자 정보 / PATH_VARIABLE: 게이트웨이 경로 변수(value)
+     */
+    public record QueryRule(QuerySource source, String name, String value, PrincipalAttribute attribute) {
+    }
+
+    public enum QuerySource {
+        DEFAULT, REQUIRED, FIXED, RENAME, PRINCIPAL, PATH_VARIABLE
+    }
+}
@@ -0,0 +1,10 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+/**
+ * 도메인별 프록시 라우트 선언
+ * - 구현체를 빈으로 등록하면 ProxyRouterConfig 가 하나의 라우트 테이블로 합쳐 등록합니다.
+ */
+public interface ProxyRouteDefinition {
+
+    void define(ProxyRoutes routes);
+}
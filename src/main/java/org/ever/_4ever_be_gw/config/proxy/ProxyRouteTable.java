@@ -0,0 +1,42 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+/**
+ * 컴파일된 프록시 라우트 테이블 (메서드별 인덱스, 구체적인 패턴 우선)
+ */
+public final class ProxyRouteTable {
+
+    private final List<ProxyRoute> routes;
+    private final Map<HttpMethod, List<ProxyRoute>> routesByMethod;
+
+    ProxyRouteTable(List<ProxyRoute> routes) {
+        this.routes = List.copyOf(routes);
+        this.routesByMethod = routes.stream()
+                .collect(Collectors.groupingBy(ProxyRoute::getMethod, Collectors.toUnmodifiableList()));
+    }
+
+    public Optional<Match> find(HttpMethod method, PathContainer path) {
+        for (ProxyRoute route : routesByMethod.getOrDefault(method, List.of())) {
+            PathPattern.PathMatchInfo info = route.match(method, path);
+            if (info != null) {
+                return Optional.of(new Match(route, info.getUriVariables()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<ProxyRoute> getRoutes() {
+        return Collections.unmodifiableList(routes);
+    }
+
+    public record Match(ProxyRoute route, Map<String, String> pathVariables) {
+    }
+}
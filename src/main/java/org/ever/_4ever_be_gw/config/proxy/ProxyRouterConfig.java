@@ -0,0 +1,36 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * 선언형 프록시 라우트 등록
+ * - 모든 ProxyRouteDefinition 을 하나의 라우트 테이블로 합쳐 단일 RouterFunction 으로 노출합니다.
+ * - RouterFunctionMapping(order -1)은 @RequestMapping 보다 먼저 조회되므로, 같은 메서드/경로가 라우트 테이블에 있으면 프록시가 우선합니다.
+ *   컨트롤러가 가려지지 않는 것은 라우트 경로와 남아 있는 컨트롤러 경로가 서로 겹치지 않기 때문입니다. (라우트 추가 시 확인 필요)
+ */
+@Slf4j
+@Configuration
+public class ProxyRouterConfig {
+
+    @Bean
+    public ProxyRouteTable proxyRouteTable(List<ProxyRouteDefinition> definitions) {
+        ProxyRoutes routes = new ProxyRoutes();
+        definitions.forEach(definition -> definition.define(routes));
+        ProxyRouteTable table = new ProxyRouteTable(routes.build());
+        log.info("[INFO] 프록시 라우트 테이블 등록 - routes: {}", table.getRoutes().size());
+        return table;
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> proxyRouterFunction(ProxyRouteTable proxyRouteTable,
+                                                              ProxyForwardHandler proxyForwardHandler) {
+        return request -> proxyRouteTable
+                .find(request.method(), request.requestPath().pathWithinApplication())
+                .map(match -> serverRequest -> proxyForwardHandler.forward(match, serverRequest));
+    }
+}
@@ -0,0 +1,262 @@
+package org.ever._4ever_be_gw.config.proxy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.ever._4ever_be_gw.config.cache.CachePolicy;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.QueryRule;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.QuerySource;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.UpstreamTarget;
+import org.ever._4ever_be_gw.config.webclient.ApiClientKey;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 프록시 라우트 테이블 DSL
+ *
+ * <pre>
+ * routes.get("/scm-pp/iv/inventory-items")
+ *       .to(ApiClientKey.SCM_PP)
+ *       .queryParams("type", "keyword")
+ *       .defaultQuery("page", "0")
+ *       .defaultQuery("size", "10");
+ *
+ * routes.post("/scm-pp/iv/stock-transfers")
+ *       .to(ApiClientKey.SCM_PP)
+ *       .authorities("IM_USER", "IM_ADMIN", "ALL_ADMIN")
+ *       .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+ *
+ * routes.get("/scm-pp/pp/quotations/status/toggle")
+ *       .to(ApiClientKey.SCM_PP)
+ *       .cache(Duration.ofMinutes(10), CacheScope.GLOBAL);
+ *
+ * routes.get("/scm-pp/iv/items/{itemId}")
+ *       .to(ApiClientKey.SCM_PP)
+ *       .cache(Duration.ofMinutes(5), CacheScope.GLOBAL)
+ *       .cacheTags(CacheTags.INVENTORY, "product:{itemId}");
+ * </pre>
+ *
+ * 클라이언트 쿼리 파라미터는 queryParams(...) 와 default/required/rename 규칙에 선언된 이름만 전달됩니다.
+ */
+public final class ProxyRoutes {
+
+    static final Pattern TEMPLATE_VARIABLE = Pattern.compile("\\{(\\w+)}");
+
+    private final List<RouteSpec> specs = new ArrayList<>();
+
+    public RouteSpec get(String path) {
+        return route(HttpMethod.GET, path);
+    }
+
+    public RouteSpec post(String path) {
+        return route(HttpMethod.POST, path);
+    }
+
+    public RouteSpec put(String path) {
+        return route(HttpMethod.PUT, path);
+    }
+
+    public RouteSpec patch(String path) {
+        return route(HttpMethod.PATCH, path);
+    }
+
+    public RouteSpec delete(String path) {
+        return route(HttpMethod.DELETE, path);
+    }
+
+    public RouteSpec route(HttpMethod method, String path) {
+        RouteSpec spec = new RouteSpec(method, path);
+        specs.add(spec);
+        return spec;
+    }
+
+    /**
+     * 선언된 라우트를 컴파일합니다. 구체적인 경로 패턴이 먼저 매칭되도록 정렬합니다.
+     * 잘못된 선언(업스트림 미지정, 해석할 수 없는 템플릿 변수, 중복 라우트)은 기동 시점에 실패합니다.
+     */
+    List<ProxyRoute> build() {
+        List<ProxyRoute> routes = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        for (RouteSpec spec : specs) {
+            ProxyRoute route = spec.compile();
+            if (!ids.add(route.getId())) {
+                throw new IllegalStateException("중복된 프록시 라우트: " + route.getId());
+            }
+            routes.add(route);
+        }
+        routes.sort(Comparator.comparing(ProxyRoute::getPattern, PathPattern.SPECIFICITY_COMPARATOR));
+        return routes;
+    }
+
+    private static Set<String> templateVariables(String template) {
+        Set<String> variables = new LinkedHashSet<>();
+        Matcher matcher = TEMPLATE_VARIABLE.matcher(template);
+        while (matcher.find()) {
+            variables.add(matcher.group(1));
+        }
+        return variables;
+    }
+
+    public static final class RouteSpec {
+
+        private final HttpMethod method;
+        private final String path;
+        private UpstreamTarget target;
+        private final Map<String, UpstreamTarget> userTypeTargets = new LinkedHashMap<>();
+        private final Set<String> authorities = new LinkedHashSet<>();
+        private final List<QueryRule> queryRules = new ArrayList<>();
+        private final Set<String> queryParams = new LinkedHashSet<>();
+        private CachePolicy cachePolicy;
+        private final List<String> cacheTags = new ArrayList<>();
+        private final List<String> invalidateTags = new ArrayList<>();
+
+        private RouteSpec(HttpMethod method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        // 게이트웨이와 같은 경로/메서드로 업스트림에 전달
+        public RouteSpec to(ApiClientKey clientKey) {
+            return to(clientKey, method, path);
+        }
+
+        public RouteSpec to(ApiClientKey clientKey, String upstreamPath) {
+            return to(clientKey, method, upstreamPath);
+        }
+
+        public RouteSpec to(ApiClientKey clientKey, HttpMethod upstreamMethod, String upstreamPath) {
+            this.target = new UpstreamTarget(clientKey, upstreamMethod, upstreamPath);
+            return this;
+        }
+
+        // 사용자 유형(INTERNAL / SUPPLIER / CUSTOMER)별 업스트림 분기
+        public RouteSpec forUserType(String userType, ApiClientKey clientKey, String upstreamPath) {
+            userTypeTargets.put(userType.toUpperCase(Locale.ROOT), new UpstreamTarget(clientKey, method, upstreamPath));
+            return this;
+        }
+
+        // 허용 권한 (@PreAuthorize("hasAnyAuthority(...)") 와 동일)
+        public RouteSpec authorities(String... authorities) {
+            this.authorities.addAll(List.of(authorities));
+            return this;
+        }
+
+        // 그대로 전달할 선택 쿼리 파라미터 (기존 컨트롤러의 @RequestParam(required = false) 와 동일)
+        public RouteSpec queryParams(String... names) {
+            this.queryParams.addAll(List.of(names));
+            return this;
+        }
+
+        public RouteSpec defaultQuery(String name, String value) {
+            return rule(QuerySource.DEFAULT, name, value, null);
+        }
+
+        public RouteSpec requiredQuery(String name) {
+            return rule(QuerySource.REQUIRED, name, null, null);
+        }
+
+        public RouteSpec fixedQuery(String name, String value) {
+            return rule(QuerySource.FIXED, name, value, null);
+        }
+
+        public RouteSpec renameQuery(String from, String to) {
+            return rule(QuerySource.RENAME, from, to, null);
+        }
+
+        public RouteSpec principalQuery(String name, PrincipalAttribute attribute) {
+            return rule(QuerySource.PRINCIPAL, name, null, attribute);
+        }
+
+        public RouteSpec pathVariableQuery(String name, String variable) {
+            return rule(QuerySource.PATH_VARIABLE, name, variable, null);
+        }
+
+        // 응답 캐시 (GET 전용, 업스트림 2xx 응답만 저장)
+        public RouteSpec cache(Duration ttl, CacheScope scope) {
+            this.cachePolicy = new CachePolicy(ttl, scope);
+            return this;
+        }
+
+        // 캐시 항목 태그 (CacheTags 이벤트 매핑 또는 invalidates(...) 로 무효화)
+        public RouteSpec cacheTags(String... tags) {
+            this.cacheTags.addAll(List.of(tags));
+            return this;
+        }
+
+        // 업스트림 2xx 응답 시 무효화할 태그 (변경 API 용)
+        public RouteSpec invalidates(String... tags) {
+            this.invalidateTags.addAll(List.of(tags));
+            return this;
+        }
+
+        private RouteSpec rule(QuerySource source, String name, String value, PrincipalAttribute attribute) {
+            queryRules.add(new QueryRule(source, name, value, attribute));
+            return this;
+        }
+
+        private ProxyRoute compile() {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(path);
+            String id = method.name() + " " + path;
+            if (target == null) {
+                throw new IllegalStateException("업스트림이 지정되지 않은 프록시 라우트: " + id);
+            }
+
+            if (cachePolicy != null && method != HttpMethod.GET) {
+                throw new IllegalStateException("GET 라우트만 응답 캐시를 지정할 수 있습니다: " + id);
+            }
+
+            if (!cacheTags.isEmpty() && cachePolicy == null) {
+                throw new IllegalStateException("cache(...) 없이 cacheTags 를 지정할 수 없습니다: " + id);
+            }
+
+            Set<String> pathVariables = templateVariables(path);
+            boolean principalRequired = !userTypeTargets.isEmpty();
+
+            List<String> templates = new ArrayList<>(cacheTags);
+            templates.addAll(invalidateTags);
+            userTypeTargets.values().forEach(upstream -> templates.add(upstream.path()));
+            templates.add(target.path());
+            for (String template : templates) {
+                for (String variable : templateVariables(template)) {
+                    if (pathVariables.contains(variable)) {
+                        continue;
+                    }
+                    if (PrincipalAttribute.fromVariableName(variable) == null) {
+                        throw new IllegalStateException(
+                                "해석할 수 없는 템플릿 변수 {" + variable + "}: " + id);
+                    }
+                    principalRequired = true;
+                }
+            }
+
+            Set<String> allowedQuery = new LinkedHashSet<>(queryParams);
+            for (QueryRule rule : queryRules) {
+                if (rule.source() == QuerySource.DEFAULT || rule.source() == QuerySource.REQUIRED
+                        || rule.source() == QuerySource.RENAME) {
+                    allowedQuery.add(rule.name());
+                }
+                if (rule.source() == QuerySource.PRINCIPAL) {
+                    principalRequired = true;
+                }
+                if (rule.source() == QuerySource.PATH_VARIABLE && !pathVariables.contains(rule.value())) {
+                    throw new IllegalStateException(
+                            "존재하지 않는 경로 변수 {" + rule.value() + "}: " + id);
+                }
+            }
+
+            return new ProxyRoute(method, pattern, target, userTypeTargets, authorities, queryRules, allowedQuery,
+                    principalRequired, cachePolicy, cacheTags, invalidateTags);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.ever._4ever_be_gw.config.swagger;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.QueryRule;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoute.QuerySource;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteTable;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프록시 라우트 테이블 → OpenAPI 문서 반영
+ * - RouterFunction 으로 등록된 프록시 라우트는 springdoc 이 스캔하지 못하므로 라우트 테이블에서 직접 경로를 추가합니다.
+ * - 경로 변수, 허용 쿼리 파라미터(기본값/필수 여부 포함), 요구 권한을 문서화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProxyRouteOpenApiCustomizer implements OpenApiCustomizer {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{(\\w+)}");
+
+    private final ProxyRouteTable proxyRouteTable;
+
+    @Override
+    public void customise(OpenAPI openApi) {
+        if (openApi.getPaths() == null) {
+            openApi.setPaths(new Paths());
+        }
+        for (ProxyRoute route : proxyRouteTable.getRoutes()) {
+            String path = route.getPattern().getPatternString();
+            PathItem pathItem = openApi.getPaths().computeIfAbsent(path, key -> new PathItem());
+            pathItem.operation(PathItem.HttpMethod.valueOf(route.getMethod().name()), toOperation(route, path));
+        }
+    }
+
+    private static Operation toOperation(ProxyRoute route, String path) {
+        ProxyRoute.UpstreamTarget target = route.getDefaultTarget();
+        StringBuilder description = new StringBuilder("업스트림: ")
+                .append(target.clientKey()).append(' ').append(target.method()).append(' ').append(target.path());
+        route.getUserTypeTargets().forEach((userType, upstream) -> description.append("\n- ").append(userType)
+                .append(": ").append(upstream.clientKey()).append(' ').append(upstream.path()));
+        if (!route.getAuthorities().isEmpty()) {
+            description.append("\n\n필요 권한: ").append(String.join(", ", route.getAuthorities()));
+        }
+
+        Operation operation = new Operation()
+                .addTagsItem("proxy " + tag(path))
+                .summary(route.getId())
+                .description(description.toString())
+                .operationId("proxy_" + route.getMethod().name().toLowerCase() + path.replaceAll("\\W", "_"))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                        .description("업스트림 응답을 그대로 전달")
+                        .content(new Content().addMediaType(
+                                org.springframework.http.MediaType.APPLICATION_JSON_VALUE,
+                                new MediaType().schema(new ObjectSchema())))));
+
+        Matcher matcher = PATH_VARIABLE.matcher(path);
+        while (matcher.find()) {
+            operation.addParametersItem(new Parameter()
+                    .in("path").name(matcher.group(1)).required(true).schema(new StringSchema()));
+        }
+        queryParameters(route).values().forEach(operation::addParametersItem);
+
+        if (route.forwardsBody()) {
+            operation.requestBody(new RequestBody().content(new Content().addMediaType(
+                    org.springframework.http.MediaType.APPLICATION_JSON_VALUE,
+                    new MediaType().schema(new ObjectSchema()))));
+        }
+        return operation;
+    }
+
+    // 클라이언트가 보낼 수 있는 쿼리 파라미터 (허용 목록 + default/required 규칙)
+    private static Map<String, Parameter> queryParameters(ProxyRoute route) {
+        Map<String, Parameter> parameters = new LinkedHashMap<>();
+        for (String name : route.getAllowedQuery()) {
+            parameters.put(name, new Parameter().in("query").name(name).required(false).schema(new StringSchema()));
+        }
+        for (QueryRule rule : route.getQueryRules()) {
+            Parameter parameter = parameters.get(rule.name());
+            if (parameter == null) {
+                continue;
+            }
+            if (rule.source() == QuerySource.DEFAULT) {
+                parameter.schema(new StringSchema()._default(rule.value()));
+            } else if (rule.source() == QuerySource.REQUIRED) {
+                parameter.required(true);
+            }
+        }
+        return parameters;
+    }
+
+    // 태그: 경로 앞 두 구간 (예: /scm-pp/iv)
+    private static String tag(String path) {
+        String[] segments = path.split("/");
+        return segments.length > 2 ? "/" + segments[1] + "/" + segments[2] : path;
+    }
+}
@@ -1,5 +1,7 @@
 package org.ever._4ever_be_gw.config.webclient;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,9 +19,113 @@ public class ApiProperties {
     public static class ClientProperties {
 
         private String baseUrl;
-//        private long connectTimeoutMillis;
-//        private long readTimeoutMillis;
+
+        // 클라이언트 기본 타임아웃 (미설정 항목은 TimeoutPolicy.DEFAULT 사용)
+        // 예) api.clients.business.timeout.response-millis: 10000
+        private TimeoutProperties timeout = new TimeoutProperties();
+
+        // getLongTimeoutWebClient 용 완화된 타임아웃 (미설정 항목은 TimeoutPolicy.LONG 사용)
+        private TimeoutProperties longTimeout = new TimeoutProperties();
+
+        // 경로별 타임아웃 재정의 (먼저 선언된 규칙이 우선)
+        // 예) api.clients.scm.routes[0].path: /scm-pp/mm/supplier
+        //     api.clients.scm.routes[0].method: POST
+        //     api.clients.scm.routes[0].timeout.deadline-millis: 30000
+        private List<RouteProperties> routes = new ArrayList<>();
+
+        // 클라이언트 서킷 브레이커 설정
+        // 예) api.clients.business.circuit-breaker.failure-rate-threshold: 50
+        private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+        // 클라이언트(ApiClientKey) 전용 커넥션 풀 설정
+        // 예) api.clients.scm.pool.max-connections: 100
+        private PoolProperties pool = new PoolProperties();
+
+        // 동일 GET 요청 합치기(single-flight) 설정
+        // 예) api.clients.business.single-flight.enabled: false
+        private SingleFlightProperties singleFlight = new SingleFlightProperties();
+    }
+
+    // null 인 항목은 상위 정책(경로 -> 클라이언트 -> 기본값)을 그대로 사용
+    @Getter
+    @Setter
+    public static class TimeoutProperties {
+
+        // 연결 타임아웃
+        private Long connectMillis;
+        // 요청 전송 후 응답(각 읽기) 대기 시간
+        private Long responseMillis;
+        // 요청 데이터 전송 타임아웃
+        private Long writeMillis;
+        // 요청 시작부터 응답 본문 수신 완료까지의 전체 마감 시간 (0: 비활성화)
+        private Long deadlineMillis;
+    }
+
+    @Getter
+    @Setter
+    public static class RouteProperties {
+
+        // PathPattern 형식 경로 (예: /scm-pp/mm/**, /hrm/employees/{employeeId})
+        private String path;
+        // HTTP 메서드 (미설정 시 모든 메서드)
+        private String method;
+        // 경로 타임아웃 (connect-millis 는 커넥션 단위 설정이므로 경로별로는 무시)
+        private TimeoutProperties timeout = new TimeoutProperties();
+        // true 인 경우 클라이언트 공용 서킷 브레이커 대신 경로 전용 서킷 브레이커 사용
+        private boolean isolateCircuitBreaker;
+        // GET single-flight 적용 여부 (opt-in, 클라이언트 single-flight.enabled 가 true 일 때만 유효)
+        private boolean singleFlight;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerProperties {
+
+        private boolean enabled = true;
+        // 최근 N 건 호출 기준 슬라이딩 윈도우
+        private int slidingWindowSize = 50;
+        // 실패율/지연율 계산에 필요한 최소 호출 수
+        private int minimumNumberOfCalls = 20;
+        // 실패율 임계치(%): 5xx 응답, 타임아웃, 연결 실패
+        private float failureRateThreshold = 50;
+        // 지연 호출율 임계치(%)
+        private float slowCallRateThreshold = 80;
+        // 지연 호출 판단 기준 시간
+        private long slowCallDurationThresholdMillis = 3_000;
+        // OPEN 상태 유지 시간 (이후 HALF_OPEN 전환)
+        private long waitDurationInOpenStateMillis = 10_000;
+        // HALF_OPEN 상태에서 허용할 탐색(probe) 호출 수
+        private int permittedNumberOfCallsInHalfOpenState = 3;
     }
 
+    @Getter
+    @Setter
+    public static class PoolProperties {
+
+        // 최대 커넥션 수
+        private int maxConnections = 50;
+        // 커넥션 획득 대기열 최대 길이 (-1: 무제한)
+        private int pendingAcquireMaxCount = 200;
+        // 커넥션 획득 대기 시간
+        private long pendingAcquireTimeoutMillis = 5_000;
+        // 유휴 커넥션 최대 유지 시간
+        private long maxIdleTimeMillis = 30_000;
+        // 커넥션 최대 수명
+        private long maxLifeTimeMillis = 300_000;
+        // 백그라운드 유휴/만료 커넥션 정리 주기 (0: 비활성화)
+        private long evictInBackgroundMillis = 60_000;
+        // LIFO 임대: 최근 사용된(따뜻한) 커넥션을 우선 재사용하고 오래된 커넥션은 유휴 만료되도록 함
+        private boolean lifo = true;
+    }
+
+    @Getter
+    @Setter
+    public static class SingleFlightProperties {
+
+        // 클라이언트 단위 스위치 (경로별 routes[].single-flight: true 로 적용 대상 선언)
+        private boolean enabled = true;
+        // 합쳐진 응답 본문을 보관할 최대 크기 (초과 시 DataBufferLimitException)
+        private int maxBodyBytes = 4 * 1024 * 1024;
+    }
 
 }
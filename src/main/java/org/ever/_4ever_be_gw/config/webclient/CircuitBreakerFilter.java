@@ -0,0 +1,112 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * 업스트림 서킷 브레이커 필터
+ * - OPEN 상태에서는 업스트림을 호출하지 않고 즉시 503 응답을 반환합니다.
+ *   (retrieve() 호출부는 WebClientResponseException(503)으로 받아 기존 오류 처리 흐름을 그대로 탑니다.)
+ * - HALF_OPEN 상태에서는 설정된 수의 탐색 호출만 허용합니다.
+ * - 브레이커 이름은 클라이언트 + 타임아웃 정책 단위입니다. (기본: "<client>", 완화: "<client>:long")
+ *   완화 정책의 지연 호출 기준은 설정값과 정책의 응답 대기 시간 중 큰 값을 사용합니다.
+ * - 응답 헤더 수신 이후 본문 소비 중 타임아웃(TimeoutPolicyFilter 의 deadline/유휴 시간)이 나면
+ *   해당 호출을 실패로 한 번 더 기록합니다. (헤더 수신 시점에는 이미 성공으로 기록되므로)
+ */
+@Slf4j
+class CircuitBreakerFilter implements ExchangeFilterFunction {
+
+    private final ApiClientKey clientKey;
+    private final CircuitBreaker clientBreaker;
+    private final List<RouteBreaker> routes;
+
+    private CircuitBreakerFilter(ApiClientKey clientKey, CircuitBreaker clientBreaker, List<RouteBreaker> routes) {
+        this.clientKey = clientKey;
+        this.clientBreaker = clientBreaker;
+        this.routes = routes;
+    }
+
+    static CircuitBreakerFilter of(
+            ApiClientKey clientKey,
+            String policyName,
+            TimeoutPolicy policy,
+            ApiProperties.CircuitBreakerProperties properties,
+            List<CompiledRoute> compiledRoutes,
+            UpstreamCircuitBreakerRegistry registry
+    ) {
+        String name = policyName == null ? clientKey.getPropertyKey() : clientKey.getPropertyKey() + ":" + policyName;
+        Duration configured = Duration.ofMillis(properties.getSlowCallDurationThresholdMillis());
+        Duration slowCallDurationThreshold = policyName == null || configured.compareTo(policy.response()) >= 0
+                ? configured
+                : policy.response();
+
+        List<RouteBreaker> routes = compiledRoutes.stream()
+                .filter(route -> route.properties().isIsolateCircuitBreaker())
+                .map(route -> new RouteBreaker(
+                        route, registry.get(name + ":" + route.id(), properties, slowCallDurationThreshold)))
+                .toList();
+        return new CircuitBreakerFilter(
+                clientKey, registry.get(name, properties, slowCallDurationThreshold), routes);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        CircuitBreaker circuitBreaker = resolve(request);
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+
+            return next.exchange(request)
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .map(response -> response.mutate()
+                            .body(body -> body.doOnError(TimeoutException.class,
+                                    ex -> circuitBreaker.onError(
+                                            System.nanoTime() - startedAt, TimeUnit.NANOSECONDS, ex)))
+                            .build())
+                    .onErrorResume(CallNotPermittedException.class,
+                            ex -> Mono.just(rejected(request, circuitBreaker)));
+        });
+    }
+
+    private CircuitBreaker resolve(ClientRequest request) {
+        if (routes.isEmpty()) {
+            return clientBreaker;
+        }
+        PathContainer path = PathContainer.parsePath(request.url().getRawPath());
+        for (RouteBreaker route : routes) {
+            if (route.route().matches(request.method(), path)) {
+                return route.circuitBreaker();
+            }
+        }
+        return clientBreaker;
+    }
+
+    private ClientResponse rejected(ClientRequest request, CircuitBreaker circuitBreaker) {
+        log.warn("[WARN] 서킷 브레이커 OPEN - 업스트림 호출 차단: {}, {} {}",
+                circuitBreaker.getName(), request.method(), request.url().getRawPath());
+
+        return ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"status\":503,\"success\":false,\"message\":\"업스트림 서비스("
+                        + clientKey.getPropertyKey() + ")가 일시적으로 응답할 수 없습니다.\"}")
+                .build();
+    }
+
+    private record RouteBreaker(CompiledRoute route, CircuitBreaker circuitBreaker) {
+    }
+}
@@ -0,0 +1,33 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import java.util.Locale;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 사전 컴파일된 경로 규칙 (api.clients.<key>.routes)
+ */
+record CompiledRoute(PathPattern pattern, HttpMethod method, ApiProperties.RouteProperties properties) {
+
+    static CompiledRoute compile(ApiProperties.RouteProperties route) {
+        return new CompiledRoute(
+                PathPatternParser.defaultInstance.parse(route.getPath()),
+                StringUtils.hasText(route.getMethod())
+                        ? HttpMethod.valueOf(route.getMethod().toUpperCase(Locale.ROOT))
+                        : null,
+                route
+        );
+    }
+
+    boolean matches(HttpMethod requestMethod, PathContainer path) {
+        return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+    }
+
+    // 경로 단위 식별자 (예: POST /scm-pp/mm/supplier)
+    String id() {
+        return (method != null ? method.name() + " " : "") + pattern.getPatternString();
+    }
+}
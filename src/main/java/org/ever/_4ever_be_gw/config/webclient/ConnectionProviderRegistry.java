@@ -0,0 +1,77 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * ApiClientKey 별 전용 커넥션 풀 레지스트리
+ * - 업스트림마다 이름이 붙은 ConnectionProvider 를 분리하여, 느린 업스트림이 다른 업스트림의 커넥션을 점유하지 않도록 합니다.
+ * - 풀 게이지(active, idle, pending 등)는 reactor.netty.connection.provider.* 메트릭으로 actuator 에 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionProviderRegistry implements DisposableBean {
+
+    private static final String POOL_NAME_PREFIX = "gw-";
+
+    private final ApiProperties apiProperties;
+
+    private final Map<ApiClientKey, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    public ConnectionProvider get(ApiClientKey clientKey) {
+        Objects.requireNonNull(clientKey, "클라이언트 키(clientKey)는 null을 허용하지 않습니다.");
+        return providers.computeIfAbsent(clientKey, this::create);
+    }
+
+    private ConnectionProvider create(ApiClientKey clientKey) {
+        ApiProperties.ClientProperties clientProperties =
+                apiProperties.getClients().get(clientKey.getPropertyKey());
+
+        if (clientProperties == null) {
+            log.error("[ERROR] WebClient 설정 없음: '{}'", clientKey.getPropertyKey());
+            throw new IllegalArgumentException("API 클라이언트 키 설정이 잘못되었습니다. : " + clientKey);
+        }
+
+        ApiProperties.PoolProperties pool = clientProperties.getPool();
+        String poolName = POOL_NAME_PREFIX + clientKey.getPropertyKey();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(poolName)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMillis()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMillis()))
+                .metrics(true);
+
+        if (pool.getEvictInBackgroundMillis() > 0) {
+            builder.evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMillis()));
+        }
+        if (pool.isLifo()) {
+            builder.lifo();
+        } else {
+            builder.fifo();
+        }
+
+        log.info("[INFO] 커넥션 풀 생성 - name: {}, maxConnections: {}, pendingAcquireMaxCount: {}, lifo: {}",
+                poolName, pool.getMaxConnections(), pool.getPendingAcquireMaxCount(), pool.isLifo());
+
+        return builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        providers.forEach((clientKey, provider) -> {
+            log.info("[INFO] 커넥션 풀 종료 - name: {}", POOL_NAME_PREFIX + clientKey.getPropertyKey());
+            provider.disposeLater().block(Duration.ofSeconds(10));
+        });
+        providers.clear();
+    }
+}
@@ -0,0 +1,101 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동일 키의 진행 중인 작업을 하나로 합치는 single-flight 그룹
+ * - 같은 키로 동시에 들어온 구독자(follower)는 최초 요청(leader)의 결과(성공/실패)를 함께 받습니다.
+ * - leader 결과가 도착한 시점에 합류한 follower 가 없으면 공유용 변환(share) 없이 결과를 그대로 돌려줍니다.
+ *   (예: 응답 본문을 버퍼링하지 않고 스트리밍)
+ * - leader 가 결과 도착 전에 취소되면 follower 는 각자 작업을 다시 실행합니다.
+ * - 결과가 도착하면 키가 즉시 제거되므로 결과를 캐싱하지 않습니다. (이후 요청은 새로 호출)
+ *
+ * @param <T> follower 와 공유하는 결과 형태
+ */
+public final class SingleFlight<T> {
+
+    private final Map<String, Flight<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param call    작업 (leader 만 실행, leader 취소 시 follower 도 각자 실행)
+     * @param share   follower 가 있을 때 leader 결과를 공유 가능한 형태로 변환
+     * @param unshare 공유 결과를 호출자별 결과로 변환
+     * @param onJoin  이미 진행 중인 작업에 합류한 경우 호출됩니다. (메트릭 기록용, null 허용)
+     */
+    public <R> Mono<R> execute(String key, Supplier<Mono<R>> call, Function<R, Mono<T>> share,
+                               Function<T, R> unshare, Runnable onJoin) {
+        return Mono.defer(() -> {
+            Flight<T> flight = new Flight<>();
+            Flight<T> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, call, share, unshare);
+            }
+            if (!existing.join()) {
+                // 결과가 막 도착해 더 이상 합류할 수 없는 작업: 단독 실행
+                return call.get();
+            }
+            if (onJoin != null) {
+                onJoin.run();
+            }
+            return existing.result.asMono()
+                    .map(unshare)
+                    .switchIfEmpty(Mono.defer(call));
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <R> Mono<R> lead(String key, Flight<T> flight, Supplier<Mono<R>> call, Function<R, Mono<T>> share,
+                             Function<T, R> unshare) {
+        return Mono.defer(call)
+                .flatMap(result -> {
+                    inFlight.remove(key, flight);
+                    if (!flight.close()) {
+                        return Mono.just(result);
+                    }
+                    return share.apply(result)
+                            .doOnNext(flight.result::tryEmitValue)
+                            .map(unshare);
+                })
+                .doOnError(flight.result::tryEmitError)
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    flight.close();
+                    // 결과 없이 끝난 경우(취소 등) follower 는 각자 재실행
+                    flight.result.tryEmitEmpty();
+                });
+    }
+
+    private static final class Flight<T> {
+
+        private static final int CLOSED = -1;
+
+        private final AtomicInteger followers = new AtomicInteger();
+        private final Sinks.One<T> result = Sinks.one();
+
+        boolean join() {
+            while (true) {
+                int count = followers.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+                if (followers.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        // 합류를 마감하고 follower 가 한 명이라도 있었는지 반환
+        boolean close() {
+            return followers.getAndSet(CLOSED) > 0;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 동일 GET 요청 합치기(single-flight) 필터
+ * - api.clients.<key>.routes[].single-flight: true 로 선언한 경로만 적용합니다. (opt-in)
+ * - 클라이언트 키 + 경로 + 정규화된 쿼리(이름순 정렬) + 인증 범위(Authorization 헤더)가 같은 GET 요청이
+ *   동시에 진행 중이면 업스트림 호출 한 번의 응답을 함께 사용합니다.
+ * - 응답 헤더 도착 시점에 합류한 요청이 없으면 본문을 버퍼링하지 않고 그대로 전달합니다.
+ *   합류한 요청이 있을 때만 본문을 한 번 읽어 바이트로 보관하고, 각 호출자에게 같은 바이트를 담은 ClientResponse 를 돌려줍니다.
+ * - 스트리밍 전달 요청(TimeoutPolicy.STREAMING_ATTRIBUTE)은 합치지 않습니다.
+ */
+@Slf4j
+class SingleFlightFilter implements ExchangeFilterFunction {
+
+    private final ApiClientKey clientKey;
+    private final ApiProperties.SingleFlightProperties properties;
+    private final List<CompiledRoute> routes;
+    private final SingleFlight<BufferedResponse> flights = new SingleFlight<>();
+    private final Counter leaderCounter;
+    private final Counter joinedCounter;
+
+    private SingleFlightFilter(ApiClientKey clientKey, ApiProperties.SingleFlightProperties properties,
+                               List<CompiledRoute> routes, MeterRegistry meterRegistry) {
+        this.clientKey = clientKey;
+        this.properties = properties;
+        this.routes = routes;
+        this.leaderCounter = Counter.builder("gateway.upstream.single-flight")
+                .tag("client", clientKey.getPropertyKey())
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.joinedCounter = Counter.builder("gateway.upstream.single-flight")
+                .tag("client", clientKey.getPropertyKey())
+                .tag("result", "joined")
+                .register(meterRegistry);
+    }
+
+    static SingleFlightFilter of(ApiClientKey clientKey, ApiProperties.SingleFlightProperties properties,
+                                 List<CompiledRoute> routes, MeterRegistry meterRegistry) {
+        return new SingleFlightFilter(clientKey, properties, routes, meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!HttpMethod.GET.equals(request.method()) || TimeoutPolicy.isStreaming(request) || !isEnabled(request)) {
+            return next.exchange(request);
+        }
+
+        return flights.execute(key(request), () -> {
+                    leaderCounter.increment();
+                    return next.exchange(request);
+                }, this::buffer, buffered -> buffered.toClientResponse(request), () -> {
+                    joinedCounter.increment();
+                    log.debug("[DEBUG] 진행 중인 업스트림 GET 에 합류 - client: {}, {}", clientKey, request.url().getRawPath());
+                });
+    }
+
+    private boolean isEnabled(ClientRequest request) {
+        if (routes.isEmpty()) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.url().getRawPath());
+        for (CompiledRoute route : routes) {
+            if (route.properties().isSingleFlight() && route.matches(request.method(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 합류한 요청이 있을 때만 응답 본문을 한 번 읽어 바이트로 보관 (max-body-bytes 초과 시 DataBufferLimitException)
+    private Mono<BufferedResponse> buffer(ClientResponse response) {
+        return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers()), properties.getMaxBodyBytes())
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .map(bytes -> new BufferedResponse(
+                        response.statusCode(), response.headers().asHttpHeaders(), response.strategies(), bytes));
+    }
+
+    private String key(ClientRequest request) {
+        StringBuilder key = new StringBuilder(clientKey.getPropertyKey())
+                .append(' ')
+                .append(request.url().getRawPath());
+
+        Map<String, List<String>> query = new TreeMap<>(
+                UriComponentsBuilder.fromUri(request.url()).build().getQueryParams());
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : query.entrySet()) {
+            for (String value : entry.getValue()) {
+                key.append(separator).append(entry.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+
+        String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            key.append(" auth=").append(authorization);
+        }
+        return key.toString();
+    }
+
+    private record BufferedResponse(HttpStatusCode status, HttpHeaders headers,
+                                    ExchangeStrategies strategies, byte[] body) {
+
+        ClientResponse toClientResponse(ClientRequest request) {
+            return ClientResponse.create(status, strategies)
+                    .headers(target -> target.addAll(headers))
+                    .request(request)
+                    .body(Flux.defer(() -> Flux.<DataBuffer>just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import java.time.Duration;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+/**
+ * WebClient 타임아웃 정책
+ * - connect: 서버 연결 대기 시간 (클라이언트 단위)
+ * - response: 요청 전송 후 응답 대기 시간 (요청 단위)
+ * - write: 요청 데이터 전송 타임아웃 (클라이언트 단위)
+ * - deadline: 요청 시작부터 응답 본문 수신 완료까지의 전체 마감 시간 (ZERO: 비활성화)
+ *   (STREAMING_ATTRIBUTE 가 설정된 스트리밍 요청은 응답 헤더 수신까지만 적용)
+ */
+public record TimeoutPolicy(
+    Duration connect,
+    Duration response,
+    Duration write,
+    Duration deadline
+) {
+
+    // 스트리밍 전달 요청 표시 속성: 본문에는 전체 마감 대신 청크 간 유휴 시간(response)만 적용
+    public static final String STREAMING_ATTRIBUTE = TimeoutPolicy.class.getName() + ".streaming";
+
+    // 기본: 연결 5초, 응답 10초, 전송 5초, 전체 15초
+    public static final TimeoutPolicy DEFAULT = new TimeoutPolicy(
+        Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+    // 완화(saga 등 장시간 처리): 연결 10초, 응답 60초, 전송 60초, 전체 90초
+    public static final TimeoutPolicy LONG = new TimeoutPolicy(
+        Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ofSeconds(60), Duration.ofSeconds(90));
+
+    // 스트리밍 전달 요청 여부 (STREAMING_ATTRIBUTE)
+    static boolean isStreaming(ClientRequest request) {
+        return request.attribute(STREAMING_ATTRIBUTE)
+            .map(Boolean.TRUE::equals)
+            .orElse(false);
+    }
+
+    public boolean hasDeadline() {
+        return deadline != null && !deadline.isZero() && !deadline.isNegative();
+    }
+
+    // 설정값이 존재하는 항목만 덮어쓴 새 정책 반환
+    public TimeoutPolicy merge(ApiProperties.TimeoutProperties overrides) {
+        if (overrides == null) {
+            return this;
+        }
+        return new TimeoutPolicy(
+            orElse(overrides.getConnectMillis(), connect),
+            orElse(overrides.getResponseMillis(), response),
+            orElse(overrides.getWriteMillis(), write),
+            orElse(overrides.getDeadlineMillis(), deadline)
+        );
+    }
+
+    private static Duration orElse(Long millis, Duration fallback) {
+        return millis != null ? Duration.ofMillis(millis) : fallback;
+    }
+}
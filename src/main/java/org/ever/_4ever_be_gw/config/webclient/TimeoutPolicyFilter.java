@@ -0,0 +1,122 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+/**
+ * 요청 단위 타임아웃 정책 적용 필터
+ * - 경로 규칙(먼저 선언된 규칙 우선) -> 클라이언트 정책 순으로 정책을 결정합니다.
+ * - response: Reactor Netty 요청 단위 responseTimeout 으로 적용
+ * - deadline: 응답 수신 + 응답 본문 소비까지 하나의 마감 시간으로 적용
+ * - 스트리밍 요청(TimeoutPolicy.STREAMING_ATTRIBUTE): deadline 은 응답 헤더 수신까지만 적용하고,
+ *   본문은 청크 간 유휴 시간(response)만 제한합니다. (이미 상태 코드가 전송된 대용량 다운로드를 끊지 않도록)
+ */
+@Slf4j
+class TimeoutPolicyFilter implements ExchangeFilterFunction {
+
+    private final ApiClientKey clientKey;
+    private final TimeoutPolicy clientPolicy;
+    private final List<RouteTimeout> routes;
+
+    private TimeoutPolicyFilter(ApiClientKey clientKey, TimeoutPolicy clientPolicy, List<RouteTimeout> routes) {
+        this.clientKey = clientKey;
+        this.clientPolicy = clientPolicy;
+        this.routes = routes;
+    }
+
+    static TimeoutPolicyFilter of(
+            ApiClientKey clientKey,
+            TimeoutPolicy clientPolicy,
+            List<CompiledRoute> compiledRoutes
+    ) {
+        List<RouteTimeout> routes = compiledRoutes.stream()
+                .map(route -> new RouteTimeout(route, clientPolicy.merge(route.properties().getTimeout())))
+                .toList();
+        return new TimeoutPolicyFilter(clientKey, clientPolicy, routes);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        TimeoutPolicy policy = resolve(request);
+
+        ClientRequest timedRequest = ClientRequest.from(request)
+                .httpRequest(httpRequest -> {
+                    HttpClientRequest nativeRequest = httpRequest.getNativeRequest();
+                    nativeRequest.responseTimeout(policy.response());
+                })
+                .build();
+
+        if (!policy.hasDeadline()) {
+            return next.exchange(timedRequest);
+        }
+
+        if (TimeoutPolicy.isStreaming(request)) {
+            return next.exchange(timedRequest)
+                    .timeout(policy.deadline(), Mono.error(() -> deadlineExceeded(request, policy)))
+                    .map(response -> response.mutate()
+                            .body(body -> body.timeout(policy.response())
+                                    .onErrorMap(TimeoutException.class, ex -> idleExceeded(request, policy)))
+                            .build());
+        }
+
+        return Mono.defer(() -> {
+            long deadlineAt = System.nanoTime() + policy.deadline().toNanos();
+
+            return next.exchange(timedRequest)
+                    .timeout(policy.deadline(), Mono.error(() -> deadlineExceeded(request, policy)))
+                    .map(response -> response.mutate()
+                            .body(body -> {
+                                // 응답 본문도 동일한 마감 시간 안에서 소비되어야 함
+                                Mono<Long> deadlineSignal = Mono.delay(remaining(deadlineAt)).cache();
+                                return body.timeout(deadlineSignal, buffer -> deadlineSignal)
+                                        .onErrorMap(TimeoutException.class, ex -> deadlineExceeded(request, policy));
+                            })
+                            .build());
+        });
+    }
+
+    private TimeoutPolicy resolve(ClientRequest request) {
+        if (routes.isEmpty()) {
+            return clientPolicy;
+        }
+        PathContainer path = PathContainer.parsePath(request.url().getRawPath());
+        for (RouteTimeout route : routes) {
+            if (route.route().matches(request.method(), path)) {
+                return route.policy();
+            }
+        }
+        return clientPolicy;
+    }
+
+    private TimeoutException idleExceeded(ClientRequest request, TimeoutPolicy policy) {
+        log.warn("[WARN] 업스트림 스트리밍 본문 유휴 시간 초과 - client: {}, {} {}, idle: {}ms",
+                clientKey, request.method(), request.url().getRawPath(), policy.response().toMillis());
+        return new TimeoutException(
+                "업스트림 스트리밍 본문 유휴 시간(" + policy.response().toMillis() + "ms)을 초과했습니다. : "
+                        + clientKey + " " + request.method() + " " + request.url().getRawPath());
+    }
+
+    private TimeoutException deadlineExceeded(ClientRequest request, TimeoutPolicy policy) {
+        log.warn("[WARN] 업스트림 요청 마감 시간 초과 - client: {}, {} {}, deadline: {}ms",
+                clientKey, request.method(), request.url().getRawPath(), policy.deadline().toMillis());
+        return new TimeoutException(
+                "업스트림 요청 마감 시간(" + policy.deadline().toMillis() + "ms)을 초과했습니다. : "
+                        + clientKey + " " + request.method() + " " + request.url().getRawPath());
+    }
+
+    private static Duration remaining(long deadlineAt) {
+        return Duration.ofNanos(Math.max(0, deadlineAt - System.nanoTime()));
+    }
+
+    private record RouteTimeout(CompiledRoute route, TimeoutPolicy policy) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업스트림 서킷 브레이커 상태 조회 actuator 엔드포인트
+ * - GET /actuator/upstreamcircuitbreakers
+ * - management.endpoints.web.exposure.include 에 upstreamcircuitbreakers 추가 필요
+ */
+@Component
+@Endpoint(id = "upstreamcircuitbreakers")
+@RequiredArgsConstructor
+public class UpstreamCircuitBreakerEndpoint {
+
+    private final UpstreamCircuitBreakerRegistry circuitBreakerRegistry;
+
+    @ReadOperation
+    public Map<String, Object> circuitBreakers() {
+        Map<String, Object> result = new TreeMap<>();
+        for (CircuitBreaker circuitBreaker : circuitBreakerRegistry.getAll()) {
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("state", circuitBreaker.getState());
+            detail.put("failureRate", metrics.getFailureRate());
+            detail.put("slowCallRate", metrics.getSlowCallRate());
+            detail.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+            detail.put("failedCalls", metrics.getNumberOfFailedCalls());
+            detail.put("slowCalls", metrics.getNumberOfSlowCalls());
+            detail.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+            result.put(circuitBreaker.getName(), detail);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+/**
+ * 업스트림 서킷 브레이커 레지스트리
+ * - ApiClientKey + 타임아웃 정책(필요 시 경로) 단위로 서킷 브레이커를 생성합니다.
+ *   (기본/완화 정책 WebClient 가 같은 브레이커를 공유하면 장시간 호출이 지연 호출로 집계되므로 분리)
+ * - 슬라이딩 윈도우 기반 실패율(5xx 응답, 예외)과 지연 호출율로 OPEN 여부를 판단합니다.
+ * - 상태/호출 수 메트릭은 resilience4j.circuitbreaker.* 로 actuator 에 노출됩니다.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreakerRegistry {
+
+    private final CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+
+    public UpstreamCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        registry.getEventPublisher().onEntryAdded(event -> event.getAddedEntry().getEventPublisher()
+                .onStateTransition(transition -> log.warn("[WARN] 서킷 브레이커 상태 전환 - name: {}, {}",
+                        transition.getCircuitBreakerName(), transition.getStateTransition())));
+    }
+
+    public CircuitBreaker get(
+            String name,
+            ApiProperties.CircuitBreakerProperties properties,
+            Duration slowCallDurationThreshold
+    ) {
+        return registry.circuitBreaker(name, () -> toConfig(properties, slowCallDurationThreshold));
+    }
+
+    public Set<CircuitBreaker> getAll() {
+        return registry.getAllCircuitBreakers();
+    }
+
+    private static CircuitBreakerConfig toConfig(
+            ApiProperties.CircuitBreakerProperties properties,
+            Duration slowCallDurationThreshold
+    ) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(properties.getWaitDurationInOpenStateMillis()))
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                // 5xx 응답도 실패로 기록 (4xx 는 호출자 오류이므로 제외)
+                .recordResult(result -> result instanceof ClientResponse response
+                        && response.statusCode().is5xxServerError())
+                .build();
+    }
+}
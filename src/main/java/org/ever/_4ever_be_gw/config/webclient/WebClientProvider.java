@@ -1,74 +1,71 @@
 package org.ever._4ever_be_gw.config.webclient;
 
-import java.time.Duration;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Component
 @Slf4j
 public class WebClientProvider {
 
+    // 완화 정책 WebClient 의 서킷 브레이커 이름 접미사 (기본 정책과 별도 브레이커 사용)
+    private static final String LONG_POLICY_NAME = "long";
+
     private final WebClient.Builder webClientBuilder;
-    private final WebClient.Builder longTimeoutWebClientBuilder;
     private final ApiProperties apiProperties;
+    private final ConnectionProviderRegistry connectionProviderRegistry;
+    private final UpstreamCircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
 
     private final Map<ApiClientKey, WebClient> cache = new ConcurrentHashMap<>();
     private final Map<ApiClientKey, WebClient> longTimeoutCache = new ConcurrentHashMap<>();
-//    private final Map<String, String> baseUrls;
 
     public WebClientProvider(
             @Qualifier("webClientBuilder") WebClient.Builder webClientBuilder,
-            @Qualifier("longTimeoutWebClientBuilder") WebClient.Builder longTimeoutWebClientBuilder,
-            ApiProperties apiProperties) {
+            ApiProperties apiProperties,
+            ConnectionProviderRegistry connectionProviderRegistry,
+            UpstreamCircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry) {
         this.webClientBuilder = webClientBuilder;
-        this.longTimeoutWebClientBuilder = longTimeoutWebClientBuilder;
         this.apiProperties = apiProperties;
-//        this.baseUrls = apiProperties.getClients().entrySet().stream()
-//            .collect(Collectors.toMap(
-//                Map.Entry::getKey, e -> e.getValue().getBaseUrl()
-//                ApiProperties.Client::getName,
-//                ApiProperties.Client::getBaseUrl
-//            ));
+        this.connectionProviderRegistry = connectionProviderRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.meterRegistry = meterRegistry;
     }
 
+    // 기본 타임아웃 정책(api.clients.<key>.timeout) 적용 WebClient
     public WebClient getWebClient(ApiClientKey clientKey) {
         Objects.requireNonNull(clientKey, "클라이언트 키(clientKey)는 null을 허용하지 않습니다.");
 
         return cache.computeIfAbsent(clientKey, ck -> {
-            var clientProps = apiProperties.getClients().get(ck.getPropertyKey());
-            if (clientProps == null) {
-                log.error("WebClient 설정 없음 : '{}'", ck.getPropertyKey());
-                throw new IllegalArgumentException(
-                    "API 클라이언트 키 설정이 잘못되었습니다. : " + ck
-                );
-            }
-
-            return webClientBuilder
-                .clone()
-                .baseUrl(clientProps.getBaseUrl())
-                .build();
+            ApiProperties.ClientProperties clientProperties = getClientProperties(ck);
+            return createClient(ck, clientProperties, null, TimeoutPolicy.DEFAULT.merge(clientProperties.getTimeout()));
         });
     }
 
+    // 완화된 타임아웃 정책(api.clients.<key>.long-timeout) 적용 WebClient
     public WebClient getLongTimeoutWebClient(
             ApiClientKey clientKey
     ) {
         Objects.requireNonNull(clientKey, "클라이언트 키(clientKey)는 null을 허용하지 않습니다.");
 
-        return longTimeoutCache.computeIfAbsent(clientKey, ck ->
-                    createClient(ck, longTimeoutWebClientBuilder)
-        );
+        return longTimeoutCache.computeIfAbsent(clientKey, ck -> {
+            ApiProperties.ClientProperties clientProperties = getClientProperties(ck);
+            return createClient(ck, clientProperties, LONG_POLICY_NAME,
+                    TimeoutPolicy.LONG.merge(clientProperties.getLongTimeout()));
+        });
     }
 
-    private WebClient createClient(
-            ApiClientKey clientKey,
-            WebClient.Builder builder
-    ) {
+    private ApiProperties.ClientProperties getClientProperties(ApiClientKey clientKey) {
         ApiProperties.ClientProperties clientProperties =
                 apiProperties.getClients().get(clientKey.getPropertyKey());
 
@@ -76,9 +73,44 @@ public class WebClientProvider {
             log.error("[ERROR] WebClient 설정 없음: '{}'", clientKey.getPropertyKey());
             throw new IllegalArgumentException("API 클라이언트 키 설정이 잘못되었습니다. : " + clientKey);
         }
+        return clientProperties;
+    }
+
+    private WebClient createClient(
+            ApiClientKey clientKey,
+            ApiProperties.ClientProperties clientProperties,
+            String policyName,
+            TimeoutPolicy policy
+    ) {
+        HttpClient httpClient = WebClientConfig.httpClient(connectionProviderRegistry.get(clientKey), policy);
+        List<CompiledRoute> routes = clientProperties.getRoutes().stream()
+                .filter(route -> StringUtils.hasText(route.getPath()))
+                .map(CompiledRoute::compile)
+                .toList();
+
+        log.info("[INFO] WebClient 생성 - client: {}, connect: {}ms, response: {}ms, deadline: {}ms, routes: {}",
+                clientKey, policy.connect().toMillis(), policy.response().toMillis(),
+                policy.deadline().toMillis(), clientProperties.getRoutes().size());
+
+        WebClient.Builder builder = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(clientProperties.getBaseUrl());
+
+        // 필터 순서: single-flight(가장 바깥, routes[].single-flight: true 경로만) -> 서킷 브레이커 -> 타임아웃 정책(안쪽)
+        // 합쳐진 요청은 서킷 브레이커에 한 번만 기록되고, 헤더 대기/본문 소비 중 타임아웃도 실패로 기록되도록 함
+        ApiProperties.SingleFlightProperties singleFlight = clientProperties.getSingleFlight();
+        if (singleFlight.isEnabled() && routes.stream().anyMatch(route -> route.properties().isSingleFlight())) {
+            builder.filter(SingleFlightFilter.of(clientKey, singleFlight, routes, meterRegistry));
+        }
+
+        ApiProperties.CircuitBreakerProperties circuitBreaker = clientProperties.getCircuitBreaker();
+        if (circuitBreaker.isEnabled()) {
+            builder.filter(CircuitBreakerFilter.of(
+                    clientKey, policyName, policy, circuitBreaker, routes, circuitBreakerRegistry));
+        }
 
-        return builder.clone()
-                .baseUrl(clientProperties.getBaseUrl())
+        return builder
+                .filter(TimeoutPolicyFilter.of(clientKey, policy, routes))
                 .build();
     }
 
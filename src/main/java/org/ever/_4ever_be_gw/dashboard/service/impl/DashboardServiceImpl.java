@@ -7,16 +7,14 @@ import org.ever._4ever_be_gw.business.service.HrmHttpService;
 import org.ever._4ever_be_gw.business.service.SdHttpService;
 import org.ever._4ever_be_gw.common.exception.BusinessException;
 import org.ever._4ever_be_gw.common.exception.ErrorCode;
-import org.ever._4ever_be_gw.common.response.ApiResponse;
 import org.ever._4ever_be_gw.config.security.principal.EverUserPrincipal;
 import org.ever._4ever_be_gw.dashboard.service.DashboardService;
-import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowItemDto;
+import org.ever._4ever_be_gw.dashboard.workflow.DashboardWorkflowComposer;
+import org.ever._4ever_be_gw.dashboard.workflow.WorkflowTabQuery;
 import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowResponseDto;
-import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowTabDto;
 import org.ever._4ever_be_gw.scm.im.service.ImHttpService;
 import org.ever._4ever_be_gw.scm.mm.service.MmHttpService;
 import org.ever._4ever_be_gw.scm.pp.PpHttpService;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -35,6 +33,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final HrmHttpService hrmHttpService;        // 인적자원관리
     private final ImHttpService imHttpService;          // 재고관리
     private final PpHttpService ppHttpService;          // 생산관리
+    private final DashboardWorkflowComposer workflowComposer;
 
     private static final int DEFAULT_SIZE = 5;
 
@@ -53,232 +52,105 @@ public class DashboardServiceImpl implements DashboardService {
         log.info("[INFO][DASHBOARD] 워크플로우 구성 시작 - userId: {}, role: {}, limit: {}", userId, userRole, limit);
 
         // 탭코드는 DashboardWorkflowTabDto 참고
+        // 역할별 두 탭의 조회는 DashboardWorkflowComposer 에서 동시에 실행됩니다.
         switch (userRole.split("_")[0]) {
             case "SUPPLIER": {
                 log.info("[INFO][DASHBOARD][SUPPLIER] 공급사 워크플로우 데이터 조회");
                 // 공급사 워크 플로우
-                // [SCM-PP] 공급사에게 발행된 주문서 목록 조회(PO)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> supplierPurchaseOrderResponse =
-                        mmHttpService.getDashboardPurchaseOrderList(userId, limit);
-                // [비즈니스] 공급사의 매출 전표 조회(AR): 기업의 매입 전표는 공급사 입장에서 매출 전표
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> supplierInvoiceResponse =
-                        fcmHttpService.getDashboardSupplierInvoiceList(userId, limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("PO")
-                                        .items(safeItems(supplierPurchaseOrderResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("AR")
-                                        .items(safeItems(supplierInvoiceResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [SCM-PP] 공급사에게 발행된 주문서 목록 조회(PO)
+                        WorkflowTabQuery.of("PO", () -> mmHttpService.getDashboardPurchaseOrderList(userId, limit)),
+                        // [비즈니스] 공급사의 매출 전표 조회(AR): 기업의 매입 전표는 공급사 입장에서 매출 전표
+                        WorkflowTabQuery.of("AR", () -> fcmHttpService.getDashboardSupplierInvoiceList(userId, limit))
+                ));
             }
 
             case "CUSTOMER": {
                 log.info("[INFO][DASHBOARD][CUSTOMER] 고객사 워크플로우 데이터 조회");
                 // 고객사 워크 플로우
-                // [비즈니스] 견적 목록 조회(QT): 고객사가 제품 구매를 위해 작성한 견적서
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> quotationResponse =
-                        sdHttpService.getDashboardCustomerQuotationList(userId, limit);
-                // [비즈니스] 매입 전표 요청(AP): 기업의 매출 전표는 고객사 입장에서 매입 전표
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> customerInvoiceResponse =
-                        fcmHttpService.getDashboardCustomerInvoiceList(userId, limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("QT")
-                                        .items(safeItems(quotationResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("AP")
-                                        .items(safeItems(customerInvoiceResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [비즈니스] 견적 목록 조회(QT): 고객사가 제품 구매를 위해 작성한 견적서
+                        WorkflowTabQuery.of("QT", () -> sdHttpService.getDashboardCustomerQuotationList(userId, limit)),
+                        // [비즈니스] 매입 전표 요청(AP): 기업의 매출 전표는 고객사 입장에서 매입 전표
+                        WorkflowTabQuery.of("AP", () -> fcmHttpService.getDashboardCustomerInvoiceList(userId, limit))
+                ));
             }
 
             case "MM": {
                 log.info("[INFO][DASHBOARD][MM] 구매 관리 워크플로우 데이터 조회 시작 - userId: {}", userId);
                 // 구매 관리 부서의 대시보드 워크 플로우
-                // [SCM] 기업의 발주서 목록 조회(PO)
-                log.info("[INFO][DASHBOARD][MM] [HTTP] 발주서 목록 조회 호출 -> mmHttpService#getDashboardPurchaseOrdersOverall");
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> mmPurchaseOrderResponse =
-                        mmHttpService.getDashboardPurchaseOrdersOverall(limit);
-                log.info("[INFO][DASHBOARD][MM] [HTTP] 발주서 목록 조회 응답 수신 - status: {}", 
-                        mmPurchaseOrderResponse != null ? mmPurchaseOrderResponse.getStatusCode() : "null");
-                // [SCM] 주문서 목록 조회(SO)
-                log.info("[INFO][DASHBOARD][MM] [HTTP] 주문서 목록 조회 호출 -> mmHttpService#getDashboardPurchaseRequestsOverall");
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> mmPurchaseRequestResponse =
-                        mmHttpService.getDashboardPurchaseRequestsOverall(limit);
-                log.info("[INFO][DASHBOARD][MM] [HTTP] 주문서 목록 조회 응답 수신 - status: {}", 
-                        mmPurchaseRequestResponse != null ? mmPurchaseRequestResponse.getStatusCode() : "null");
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("PO")
-                                        .items(safeItems(mmPurchaseRequestResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("SO")
-                                        .items(safeItems(mmPurchaseOrderResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [SCM] 구매 요청 목록 조회 -> mmHttpService#getDashboardPurchaseRequestsOverall
+                        WorkflowTabQuery.of("PO", () -> mmHttpService.getDashboardPurchaseRequestsOverall(limit)),
+                        // [SCM] 기업의 발주서 목록 조회 -> mmHttpService#getDashboardPurchaseOrdersOverall
+                        WorkflowTabQuery.of("SO", () -> mmHttpService.getDashboardPurchaseOrdersOverall(limit))
+                ));
             }
 
             case "SD": {
                 log.info("[INFO][DASHBOARD][SD] 영업 관리 워크플로우 데이터 조회");
                 // 영업 관리 부서의 대시보드 워크 플로우
-                // [비즈니스] 전체 견적서 목록 조회(QT)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> sdCustomerQuotationResponse =
-                        sdHttpService.getDashboardInternalQuotationList(limit);
-                // [비즈니스] 전체 주문서 목록 조회(SO)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> sdOrderListResponse =
-                        sdHttpService.getDashboardInternalOrderList(limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("QT")
-                                        .items(safeItems(sdCustomerQuotationResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("SO")
-                                        .items(safeItems(sdOrderListResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [비즈니스] 전체 견적서 목록 조회(QT)
+                        WorkflowTabQuery.of("QT", () -> sdHttpService.getDashboardInternalQuotationList(limit)),
+                        // [비즈니스] 전체 주문서 목록 조회(SO)
+                        WorkflowTabQuery.of("SO", () -> sdHttpService.getDashboardInternalOrderList(limit))
+                ));
             }
 
             case "FCM": {
                 log.info("[INFO][DASHBOARD][FCM] 재무 관리 워크플로우 데이터 조회");
                 // 재무 관리 부서의 대시보드 워크 플로우
-                // [비즈니스] 기업의 전체 매출 전표 목록(AR)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> fcmArListResponse =
-                        fcmHttpService.getDashboardCompanyArList(userId, limit);
-                // [비즈니스] 기업의 전체 매입 전표 목록(AP)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> fcmApListResponse =
-                        fcmHttpService.getDashboardCompanyApList(userId, limit);
-
-                return buildFcmWorkflowResponse(fcmArListResponse, fcmApListResponse);
+                return composeFcmWorkflow(userId, limit);
             }
 
             case "IM": {
                 log.info("[INFO][DASHBOARD][IM] 재고 관리 워크플로우 데이터 조회");
                 // 재고 관리 부터의 대시보드 워크 플로우
-                // [SCM-PP] 전체 입고 목록 조회
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> imInboundListResponse =
-                        imHttpService.getDashboardInboundList(userId, limit);
-                // [SCM-PP] 전체 출고 목록 조회
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> imOutboundListResponse =
-                        imHttpService.getDashboardOutboundList(userId, limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("IN")
-                                        .items(safeItems(imInboundListResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("OUT")
-                                        .items(safeItems(imOutboundListResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [SCM-PP] 전체 입고 목록 조회
+                        WorkflowTabQuery.of("IN", () -> imHttpService.getDashboardInboundList(userId, limit)),
+                        // [SCM-PP] 전체 출고 목록 조회
+                        WorkflowTabQuery.of("OUT", () -> imHttpService.getDashboardOutboundList(userId, limit))
+                ));
             }
 
             case "HRM": {
                 log.info("[INFO][DASHBOARD][HRM] 인사 워크플로우 데이터 조회");
                 // 인적 자원 관리 부서의 대시보드 워크 플로우
-                // [비즈니스] 근태 목록 조회(ATT)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> hrmAttendanceListResponse =
-                        hrmHttpService.getDashboardAttendanceList(userId, limit);
-                // [비즈니스] 휴가 신청 목록 조회(LV)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> hrmLeaveRequestListResponse =
-                        hrmHttpService.getDashboardLeaveRequestList(userId, limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("ATT")
-                                        .items(safeItems(hrmAttendanceListResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("LV")
-                                        .items(safeItems(hrmLeaveRequestListResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [비즈니스] 근태 목록 조회(ATT)
+                        WorkflowTabQuery.of("ATT", () -> hrmHttpService.getDashboardAttendanceList(userId, limit)),
+                        // [비즈니스] 휴가 신청 목록 조회(LV)
+                        WorkflowTabQuery.of("LV", () -> hrmHttpService.getDashboardLeaveRequestList(userId, limit))
+                ));
             }
 
             case "PP": {
                 log.info("[INFO][DASHBOARD][PP] 생산 관리 워크플로우 데이터 조회");
                 // 생산 관리 부서의 대시보드 워크 플로우
-                // [SCM-PP] 생산관리로 전환된 견적서 목록 조회(QT)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> ppToProductionQuotationResponse =
-                        ppHttpService.getDashboardQuotationsToProduction(userId, limit);
-                // [SCM-PP] 생산 목록 조회(MES)
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> ppInProgressResponse =
-                        ppHttpService.getDashboardProductionInProgress(userId, limit);
-
-                return DashboardWorkflowResponseDto.builder()
-                        .tabs(List.of(
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("QT")
-                                        .items(safeItems(ppToProductionQuotationResponse))
-                                        .build(),
-                                DashboardWorkflowTabDto.builder()
-                                        .tabCode("MES")
-                                        .items(safeItems(ppInProgressResponse))
-                                        .build()
-                        ))
-                        .build();
+                return workflowComposer.compose(List.of(
+                        // [SCM-PP] 생산관리로 전환된 견적서 목록 조회(QT)
+                        WorkflowTabQuery.of("QT", () -> ppHttpService.getDashboardQuotationsToProduction(userId, limit)),
+                        // [SCM-PP] 생산 목록 조회(MES)
+                        WorkflowTabQuery.of("MES", () -> ppHttpService.getDashboardProductionInProgress(userId, limit))
+                ));
             }
 
             default: {
                 log.info("[INFO][DASHBOARD][ADMIN] 기본 워크플로우(재무 기준) 데이터 조회");
                 // 관리자는 재무관리와 동일한 전표 현황을 확인
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> fcmArListResponse =
-                        fcmHttpService.getDashboardCompanyArList(userId, limit);
-                ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> fcmApListResponse =
-                        fcmHttpService.getDashboardCompanyApList(userId, limit);
-
-                return buildFcmWorkflowResponse(fcmArListResponse, fcmApListResponse);
+                return composeFcmWorkflow(userId, limit);
             }
         }
     }
 
-    private DashboardWorkflowResponseDto buildFcmWorkflowResponse(
-            ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> arResponse,
-            ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> apResponse
-    ) {
-        return DashboardWorkflowResponseDto.builder()
-                .tabs(List.of(
-                        DashboardWorkflowTabDto.builder()
-                                .tabCode("AR")
-                                .items(safeItems(arResponse))
-                                .build(),
-                        DashboardWorkflowTabDto.builder()
-                                .tabCode("AP")
-                                .items(safeItems(apResponse))
-                                .build()
-                ))
-                .build();
-    }
-
-    /**
-     * null-safe로 items 뽑아오기
-     */
-    private static List<DashboardWorkflowItemDto> safeItems(
-            ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> resp
-    ) {
-        if (resp == null || resp.getBody() == null || resp.getBody().getData() == null) return List.of();
-        return resp.getBody().getData();
+    private DashboardWorkflowResponseDto composeFcmWorkflow(String userId, int limit) {
+        return workflowComposer.compose(List.of(
+                // [비즈니스] 기업의 전체 매출 전표 목록(AR)
+                WorkflowTabQuery.of("AR", () -> fcmHttpService.getDashboardCompanyArList(userId, limit)),
+                // [비즈니스] 기업의 전체 매입 전표 목록(AP)
+                WorkflowTabQuery.of("AP", () -> fcmHttpService.getDashboardCompanyApList(userId, limit))
+        ));
     }
 }
@@ -0,0 +1,111 @@
+package org.ever._4ever_be_gw.dashboard.workflow;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.common.response.ApiResponse;
+import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowItemDto;
+import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowResponseDto;
+import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowTabDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 워크플로우 동시 조회 엔진
+ * - 모든 탭 조회를 동시에 시작하고, 하나의 공통 마감 시간(deadline) 안에서 결과를 합칩니다.
+ * - 각 탭은 응답이 도착하는 즉시 DashboardWorkflowTabDto 로 변환됩니다.
+ * - 마감 시간을 넘기거나 실패한 탭은 빈 items 로 채워 나머지 탭 응답을 막지 않습니다.
+ * - 마감 시간이 지나면 해당 조회 작업을 인터럽트로 취소해, block 중인 워커를 마감 이후까지 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+public class DashboardWorkflowComposer {
+
+    private final AsyncTaskExecutor executor;
+    private final long deadlineMillis;
+
+    public DashboardWorkflowComposer(
+        @Qualifier("dashboardWorkflowExecutor") AsyncTaskExecutor executor,
+        @Value("${dashboard.workflow.deadline-millis:5000}") long deadlineMillis
+    ) {
+        this.executor = executor;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public DashboardWorkflowResponseDto compose(List<WorkflowTabQuery> queries) {
+        long startedAt = System.nanoTime();
+
+        // 1. 모든 탭 조회를 동시에 시작 (공통 deadline 적용)
+        List<CompletableFuture<DashboardWorkflowTabDto>> futures = queries.stream()
+            .map(this::start)
+            .toList();
+
+        // 2. 공통 deadline 안에서 합류 (각 future 는 deadline 시 빈 탭으로 완료됨)
+        List<DashboardWorkflowTabDto> tabs = futures.stream()
+            .map(CompletableFuture::join)
+            .toList();
+
+        log.info("[INFO][DASHBOARD] 워크플로우 탭 동시 조회 완료 - tabs: {}, elapsed: {}ms",
+            tabs.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        return DashboardWorkflowResponseDto.builder()
+            .tabs(tabs)
+            .build();
+    }
+
+    private CompletableFuture<DashboardWorkflowTabDto> start(WorkflowTabQuery query) {
+        CompletableFuture<ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>>> fetch = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    fetch.complete(query.fetcher().get());
+                } catch (Throwable ex) {
+                    fetch.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // 풀이 가득 차면 요청 스레드에서 돌리지 않고 빈 탭으로 응답 (공통 deadline 유지)
+            log.warn("[WARN][DASHBOARD] 워크플로우 조회 풀 포화로 탭 생략 - tabCode: {}", query.tabCode());
+            return CompletableFuture.completedFuture(toTab(query.tabCode(), List.of()));
+        }
+        return fetch
+            .orTimeout(deadlineMillis, TimeUnit.MILLISECONDS)
+            // 마감 시 block 중인 워커를 인터럽트 (WebClient 구독이 해제되어 업스트림 호출도 취소됨)
+            .whenComplete((response, ex) -> task.cancel(true))
+            .thenApply(response -> toTab(query.tabCode(), safeItems(response)))
+            .exceptionally(ex -> {
+                if (ex instanceof TimeoutException || ex.getCause() instanceof TimeoutException) {
+                    log.warn("[WARN][DASHBOARD] 워크플로우 탭 조회 마감 시간 초과 - tabCode: {}, deadline: {}ms",
+                        query.tabCode(), deadlineMillis);
+                } else {
+                    log.error("[ERROR][DASHBOARD] 워크플로우 탭 조회 실패 - tabCode: {}", query.tabCode(), ex);
+                }
+                return toTab(query.tabCode(), List.of());
+            });
+    }
+
+    private static DashboardWorkflowTabDto toTab(String tabCode, List<DashboardWorkflowItemDto> items) {
+        return DashboardWorkflowTabDto.builder()
+            .tabCode(tabCode)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * null-safe로 items 뽑아오기
+     */
+    private static List<DashboardWorkflowItemDto> safeItems(
+        ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>> resp
+    ) {
+        if (resp == null || resp.getBody() == null || resp.getBody().getData() == null) return List.of();
+        return resp.getBody().getData();
+    }
+}
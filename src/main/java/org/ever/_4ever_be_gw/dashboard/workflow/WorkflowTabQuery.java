@@ -0,0 +1,25 @@
+package org.ever._4ever_be_gw.dashboard.workflow;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.ever._4ever_be_gw.common.response.ApiResponse;
+import org.ever._4ever_be_gw.facade.dto.DashboardWorkflowItemDto;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 대시보드 워크플로우 단일 탭 조회 정의
+ * - tabCode: 응답에 채워질 탭 코드 (DashboardWorkflowTabDto 참고)
+ * - fetcher: 탭 항목을 조회하는 업스트림 호출
+ */
+public record WorkflowTabQuery(
+    String tabCode,
+    Supplier<ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>>> fetcher
+) {
+
+    public static WorkflowTabQuery of(
+        String tabCode,
+        Supplier<ResponseEntity<ApiResponse<List<DashboardWorkflowItemDto>>>> fetcher
+    ) {
+        return new WorkflowTabQuery(tabCode, fetcher);
+    }
+}
@@ -6,7 +6,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteTable;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -16,10 +21,18 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingFilter extends OncePerRequestFilter {
 
     private static final long MAX_LOG_LENGTH = 1000;
 
+    // 업스트림 응답을 스트리밍으로 전달하는 컨트롤러 경로 (ProxyResponseUtils, OrderController)
+    private static final List<String> STREAMING_CONTROLLER_PREFIXES = List.of(
+        "/scm-pp/purchase-orders/", "/scm-pp/sales-orders/", "/scm-pp/product/");
+
+    // 선언형 프록시 라우트 (ProxyForwardHandler) 는 라우트 테이블로 판별
+    private final ProxyRouteTable proxyRouteTable;
+
     public String maskSensitiveData(String requestBody) {
         return requestBody.replaceAll("\"password\"\\s*:\\s*\"(.*?)\"", "\"password\":\"****\"");
     }
@@ -36,6 +49,17 @@ public class LoggingFilter extends OncePerRequestFilter {
             return;
         }
 
+        // ⭐ 스트리밍 프록시 응답은 본문을 메모리에 캐싱하지 않도록 응답 래핑 제외
+        if (isStreamingProxy(req)) {
+            long srt = System.currentTimeMillis();
+            filterChain.doFilter(req, res);
+            log.info("\n"
+                    + "HTTP 메서드: [ {} ] 엔드포인트: [ {} ] Status: {} 응답 본문: [ (streaming) ]"
+                , req.getMethod(), requestURI, res.getStatus());
+            log.info(">>> 소요 시간: {} sec", (System.currentTimeMillis() - srt) / 1000.0);
+            return;
+        }
+
         long srt = System.currentTimeMillis();
         ContentCachingRequestWrapper wrappedReq = new ContentCachingRequestWrapper(req);
         ContentCachingResponseWrapper wrappedRes = new ContentCachingResponseWrapper(res);
@@ -89,5 +113,13 @@ public class LoggingFilter extends OncePerRequestFilter {
         log.info(">>> 소요 시간: {} sec", (end - srt) / 1000.0);
     }
 
+    private boolean isStreamingProxy(HttpServletRequest req) {
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        if (STREAMING_CONTROLLER_PREFIXES.stream().anyMatch(path::startsWith)) {
+            return true;
+        }
+        return proxyRouteTable.find(HttpMethod.valueOf(req.getMethod()), PathContainer.parsePath(path)).isPresent();
+    }
+
 
 }
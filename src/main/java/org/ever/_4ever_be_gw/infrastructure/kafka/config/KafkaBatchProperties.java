@@ -0,0 +1,30 @@
+package org.ever._4ever_be_gw.infrastructure.kafka.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멀티 토픽 리스너 배치 소비 설정 (gateway.kafka.batch)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.kafka.batch")
+public class KafkaBatchProperties {
+
+    // true 면 poll 단위(최대 max.poll.records 건) 배치 리스너로, false 면 기존 건별 리스너로 소비
+    private boolean enabled = false;
+
+    // 배치 안의 토픽 그룹이 모두 끝나기를 기다리는 최대 시간
+    // 넘으면 남은 레코드 처리를 멈추고, 실행 중인 레코드가 끝난 뒤 완료 구간만 커밋하고 나머지는 되감음
+    // kafkaBatchExecutor 가 거절한 그룹도 실패로 보고 되감음 (리스너 스레드에서 직접 처리하지 않음)
+    // 키 순서 모드의 kafkaKeyOrderedExecutor 는 포화 시 리스너 스레드에서 처리하므로, 그 lane 은 이 시간으로 끊기지 않음
+    private Duration groupTimeout = Duration.ofSeconds(30);
+
+    // true 면 배치를 토픽이 아니라 레코드 키 단위로 나눠 병렬 처리 (같은 키는 순서 유지)
+    // 파티션별로 앞에서부터 끊김 없이 완료된 구간까지만 커밋하고, 나머지는 다시 읽음
+    private boolean keyOrdered = false;
+}
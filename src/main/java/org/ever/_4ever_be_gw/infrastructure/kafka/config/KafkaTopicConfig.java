@@ -20,6 +20,19 @@ public class KafkaTopicConfig {
     public static final String ALARM_SENT_TOPIC = "alarm-sent";                     // 알림 발송
     public static final String ALARM_REQUEST_STATUS_TOPIC = "alarm-request-status"; // 알림 요청 상태
 
+    // 알림 발송 재시도 단계 토픽 (실패 → 1초 → 10초 → 60초 → DLQ)
+    public static final String ALARM_SENT_RETRY_1S_TOPIC = ALARM_SENT_TOPIC + ".retry-1s";
+    public static final String ALARM_SENT_RETRY_10S_TOPIC = ALARM_SENT_TOPIC + ".retry-10s";
+    public static final String ALARM_SENT_RETRY_60S_TOPIC = ALARM_SENT_TOPIC + ".retry-60s";
+    public static final String DLQ_SUFFIX = ".dlq";
+    public static final String ALARM_SENT_DLQ_TOPIC = ALARM_SENT_TOPIC + DLQ_SUFFIX;
+
+    // 서비스 토픽 DLQ (MultiTopicEventListener 처리 실패, 역직렬화 실패 레코드)
+    public static final String USER_EVENT_DLQ_TOPIC = USER_EVENT_TOPIC + DLQ_SUFFIX;
+    public static final String SCM_EVENT_DLQ_TOPIC = SCM_EVENT_TOPIC + DLQ_SUFFIX;
+    public static final String BUSINESS_EVENT_DLQ_TOPIC = BUSINESS_EVENT_TOPIC + DLQ_SUFFIX;
+    public static final String ALARM_EVENT_DLQ_TOPIC = ALARM_EVENT_TOPIC + DLQ_SUFFIX;
+
 
     @Bean
     public NewTopic userEventTopic() {
@@ -52,4 +65,68 @@ public class KafkaTopicConfig {
             .replicas(1)
             .build();
     }
+
+    @Bean
+    public NewTopic alarmSentRetry1sTopic() {
+        return TopicBuilder.name(ALARM_SENT_RETRY_1S_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic alarmSentRetry10sTopic() {
+        return TopicBuilder.name(ALARM_SENT_RETRY_10S_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic alarmSentRetry60sTopic() {
+        return TopicBuilder.name(ALARM_SENT_RETRY_60S_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic alarmSentDlqTopic() {
+        return TopicBuilder.name(ALARM_SENT_DLQ_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic userEventDlqTopic() {
+        return TopicBuilder.name(USER_EVENT_DLQ_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic scmEventDlqTopic() {
+        return TopicBuilder.name(SCM_EVENT_DLQ_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic businessEventDlqTopic() {
+        return TopicBuilder.name(BUSINESS_EVENT_DLQ_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic alarmEventDlqTopic() {
+        return TopicBuilder.name(ALARM_EVENT_DLQ_TOPIC)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
 }
@@ -2,11 +2,24 @@ package org.ever._4ever_be_gw.infrastructure.kafka.consumer;
 
 import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_REQUEST_STATUS_TOPIC;
 import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_STATUS_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_10S_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_1S_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_60S_TOPIC;
 import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_TOPIC;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.ever._4ever_be_gw.alarm.cache.NotificationListCache;
+import org.ever._4ever_be_gw.alarm.cluster.AlarmClusterRelay;
 import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.alarm.sse.SseEventIds;
+import org.ever._4ever_be_gw.alarm.sse.SseGroupIndex;
+import org.ever._4ever_be_gw.alarm.sse.SseGroups;
+import org.ever._4ever_be_gw.alarm.unread.UnreadCounter;
+import org.ever._4ever_be_gw.infrastructure.kafka.handler.KafkaRetryHeaders;
 import org.ever.event.AlarmSentEvent;
 import org.ever.event.StatusEvent;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -22,6 +35,11 @@ import org.springframework.stereotype.Component;
 public class AlarmTopicEventListener {
 
     private final AlarmSendService alarmSendService;
+    private final AlarmClusterRelay alarmClusterRelay;
+    private final UnreadCounter unreadCounter;
+    private final NotificationListCache notificationListCache;
+    private final SseGroupIndex groupIndex;
+    private final ObjectMapper objectMapper;
 
     /**
      * 알림 발송 요청 결과 이벤트 리스너
@@ -37,7 +55,7 @@ public class AlarmTopicEventListener {
         @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
         @Header(KafkaHeaders.OFFSET) long offset,
         Acknowledgment acknowledgment
-    ) {
+    ) throws Exception {
         try {
             log.info("알람 발송 결과 이벤트 수신 - Topic: {}, Partition: {}, Offset: {}, eventId: {}",
                 topic, partition, offset, event.getEventId());
@@ -49,8 +67,8 @@ public class AlarmTopicEventListener {
 
         } catch (Exception e) {
             log.error("알람 발송 실패 이벤트 처리 실패 - eventId: {}", event.getEventId(), e);
-            // 에러 처리 로직
-            // acknowledgment를 호출하지 않으면 메시지가 재처리됨
+            // 에러 핸들러가 DLQ 로 넘기고 다음 레코드로 진행
+            throw e;
         }
     }
 
@@ -71,7 +89,7 @@ public class AlarmTopicEventListener {
         @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
         @Header(KafkaHeaders.OFFSET) long offset,
         Acknowledgment acknowledgment
-    ) {
+    ) throws Exception {
         try {
             log.info(
                 "알람 요청 결과 이벤트 수신 - Topic: {}, Partition: {}, Offset: {}, eventId: {}",
@@ -85,8 +103,8 @@ public class AlarmTopicEventListener {
 
         } catch (Exception e) {
             log.error("알람 요청 이벤트 처리 실패 - eventId: {}", event.getEventId(), e);
-            // 에러 처리 로직
-            // acknowledgment를 호출하지 않으면 메시지가 재처리됨
+            // 에러 핸들러가 DLQ 로 넘기고 다음 레코드로 진행
+            throw e;
         }
     }
 
@@ -105,13 +123,12 @@ public class AlarmTopicEventListener {
         @Header(KafkaHeaders.RECEIVED_PARTITION) int partition, // 기본 제공 : 파티션 번호
         @Header(KafkaHeaders.OFFSET) long offset, // 기본 제공 : 오프셋 번호
         Acknowledgment acknowledgment
-    ) {
+    ) throws Exception {
         try {
             log.info("알림 발송 이벤트 수신 - Topic: {}, Partition: {}, Offset: {}, eventId: {}",
                 topic, partition, offset, event.getEventId());
 
-            // TODO 알림 발송
-            alarmSendService.sendAlarmMessage(event);
+            deliver(event);
 
             log.info("알림 발송 완료 - eventId: {}", event.getEventId());
 
@@ -120,8 +137,98 @@ public class AlarmTopicEventListener {
 
         } catch (Exception e) {
             log.error("알림 발송 이벤트 처리 실패 - eventId: {}", event.getEventId(), e);
-            // 에러 처리 로직
-            // acknowledgment를 호출하지 않으면 메시지가 재처리됨
+            // 에러 핸들러가 재시도 토픽(1초 → 10초 → 60초 → DLQ)으로 넘기고 다음 레코드로 진행
+            throw e;
+        }
+    }
+
+    /**
+     * 알림 발송 재시도 단계 리스너
+     * - 단계마다 별도 컨테이너라 대기 중인 60초 단계가 1초 단계를 막지 않습니다.
+     * - 처리 시각(x-retry-due-at)이 안 됐으면 nack 으로 남은 시간만큼 기다렸다가 같은 레코드부터 다시 받습니다.
+     *   nack(Duration) 은 파티션 하나가 아니라 이 컨테이너 컨슈머의 할당 전체를 멈춥니다.
+     *   (같은 단계 토픽은 지연 시간이 같아 뒤 레코드의 처리 시각도 더 늦으므로, 함께 기다려도 늦어지지 않음)
+     */
+    @KafkaListener(
+        id = "alarmSentRetry1s",
+        topics = ALARM_SENT_RETRY_1S_TOPIC,
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleNotificationRetry1s(ConsumerRecord<String, AlarmSentEvent> record,
+        Acknowledgment acknowledgment) throws Exception {
+        handleNotificationRetry(record, acknowledgment);
+    }
+
+    @KafkaListener(
+        id = "alarmSentRetry10s",
+        topics = ALARM_SENT_RETRY_10S_TOPIC,
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleNotificationRetry10s(ConsumerRecord<String, AlarmSentEvent> record,
+        Acknowledgment acknowledgment) throws Exception {
+        handleNotificationRetry(record, acknowledgment);
+    }
+
+    @KafkaListener(
+        id = "alarmSentRetry60s",
+        topics = ALARM_SENT_RETRY_60S_TOPIC,
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleNotificationRetry60s(ConsumerRecord<String, AlarmSentEvent> record,
+        Acknowledgment acknowledgment) throws Exception {
+        handleNotificationRetry(record, acknowledgment);
+    }
+
+    private void handleNotificationRetry(ConsumerRecord<String, AlarmSentEvent> record,
+        Acknowledgment acknowledgment) throws Exception {
+        long waitMillis = KafkaRetryHeaders.getLong(record.headers(), KafkaRetryHeaders.DUE_AT, 0)
+            - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            acknowledgment.nack(Duration.ofMillis(waitMillis));
+            return;
+        }
+
+        AlarmSentEvent event = record.value();
+        log.info("알림 발송 재시도 - Topic: {}, Partition: {}, Offset: {}, eventId: {}, attempt: {}",
+            record.topic(), record.partition(), record.offset(), event.getEventId(),
+            KafkaRetryHeaders.get(record.headers(), KafkaRetryHeaders.ATTEMPT));
+
+        deliver(event);
+        acknowledgment.acknowledge();
+        log.info("알림 발송 재시도 성공 - eventId: {}", event.getEventId());
+    }
+
+    private void deliver(AlarmSentEvent event) throws Exception {
+        // SSE 이벤트 ID 와 JSON 은 여기서 한 번만 만들고, 중계 노드들도 그대로 사용
+        long sseEventId = SseEventIds.next();
+        String payload = objectMapper.writeValueAsString(event);
+
+        // 그룹 알림은 모든 노드로 중계, 개인 알림은 로컬 전송 결과와 무관하게 사용자가 접속 중인 다른 노드로 중계
+        // (여러 노드에 탭이 나뉘어 있을 수 있음)
+        String group = SseGroups.forTarget(event.getTargetType(), event.getTargetId());
+        if (group != null) {
+            alarmSendService.sendGroupPayload(group, sseEventId, payload);
+            notificationListCache.invalidateAll(groupIndex.members(group));
+            if (unreadCounter.isEnabled()) {
+                unreadCounter.reconcileGroupAsync(group);
+            }
+            if (alarmClusterRelay.isEnabled()) {
+                alarmClusterRelay.publishGroup(group, sseEventId, payload);
+            }
+        } else {
+            // 목록 캐시 무효화와 안 읽은 개수 증가는 이벤트를 받은 노드에서 한 번만 수행
+            notificationListCache.invalidate(event.getTargetId());
+            Long unreadCount = unreadCounter.isEnabled() ? unreadCounter.add(event.getTargetId(), 1) : null;
+            if (alarmSendService.sendAlarmPayload(event.getTargetId(), sseEventId, payload)
+                && unreadCount != null) {
+                alarmSendService.sendUnreadCount(event.getTargetId(), unreadCount);
+            }
+            if (alarmClusterRelay.isEnabled()) {
+                alarmClusterRelay.publish(event.getTargetId(), sseEventId, payload, unreadCount);
+            }
         }
     }
 
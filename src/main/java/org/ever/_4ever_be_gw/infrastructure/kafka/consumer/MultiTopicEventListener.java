@@ -6,13 +6,34 @@ import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig
 import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.USER_EVENT_TOPIC;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaBatchProperties;
 import org.ever._4ever_be_gw.infrastructure.kafka.consumer.handler.MultiTopicEventHandler;
+import org.ever._4ever_be_gw.infrastructure.kafka.consumer.ordering.PartitionOffsetTracker;
+import org.ever._4ever_be_gw.infrastructure.kafka.handler.DeadLetterQueueHandler;
 import org.ever.event.AlarmEvent;
 import org.ever.event.BusinessEvent;
 import org.ever.event.ScmEvent;
 import org.ever.event.UserEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -20,21 +41,69 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+/**
+ * 여러 토픽을 구독하는 리스너
+ * - 건별 모드(기본): 레코드마다 처리하고 수동 커밋합니다.
+ * - 배치 모드(gateway.kafka.batch.enabled=true): poll 전체를 토픽별로 묶어 그룹끼리 병렬 처리하고, 배치당 한 번 커밋합니다.
+ *   같은 토픽 안에서는 수신 순서대로 처리하므로 파티션 내 순서는 유지됩니다.
+ *   제한 시간 안에 끝나지 않으면 남은 레코드 처리를 멈추고(실행 중인 레코드는 끝까지 기다림) 완료 구간만 커밋한 뒤
+ *   나머지는 되감아 다음 poll 에서 다시 처리합니다.
+ *   풀이 가득 차 거절된 토픽 그룹은 리스너 스레드에서 돌리지 않고 실패로 보아, 같은 방식으로 되감습니다.
+ * - 키 순서 모드(gateway.kafka.batch.key-ordered=true): 배치를 레코드 키 단위로 나눠 코어 수 기반 풀에서 병렬 처리합니다.
+ *   같은 키는 순서대로, 다른 키는 동시에 처리되며 파티션별로 끊김 없이 완료된 구간까지만 커밋합니다.
+ * - 처리에 실패한 레코드는 재시도/DLQ 토픽(<topic>.dlq)으로 넘깁니다. 건별 모드는 예외를 KafkaErrorHandler 로 던지고,
+ *   배치/키 순서 모드는 직접 넘긴 뒤 완료로 표시하며, 넘기지도 못하면 해당 작업을 멈춰 그 레코드부터 되감습니다.
+ * - 두 모드 모두 gateway.kafka.multi-topic.records / .process (tag mode) 로 처리량을 비교할 수 있습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MultiTopicEventListener {
 
     private final ObjectMapper objectMapper;
     private final MultiTopicEventHandler multiTopicEventHandler;
+    private final DeadLetterQueueHandler deadLetterQueueHandler;
+    private final KafkaBatchProperties batchProperties;
+    private final Executor batchExecutor;
+    private final Executor keyOrderedExecutor;
+    private final Counter recordModeCounter;
+    private final Counter batchModeCounter;
+    private final Timer recordModeTimer;
+    private final Timer batchModeTimer;
+    private final Counter keyOrderedModeCounter;
+    private final Timer keyOrderedModeTimer;
+
+    public MultiTopicEventListener(
+        ObjectMapper objectMapper,
+        MultiTopicEventHandler multiTopicEventHandler,
+        DeadLetterQueueHandler deadLetterQueueHandler,
+        KafkaBatchProperties batchProperties,
+        @Qualifier("kafkaBatchExecutor") Executor batchExecutor,
+        @Qualifier("kafkaKeyOrderedExecutor") Executor keyOrderedExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.multiTopicEventHandler = multiTopicEventHandler;
+        this.deadLetterQueueHandler = deadLetterQueueHandler;
+        this.batchProperties = batchProperties;
+        this.batchExecutor = batchExecutor;
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.recordModeCounter = recordCounter(meterRegistry, "record");
+        this.batchModeCounter = recordCounter(meterRegistry, "batch");
+        this.recordModeTimer = processTimer(meterRegistry, "record");
+        this.batchModeTimer = processTimer(meterRegistry, "batch");
+        this.keyOrderedModeCounter = recordCounter(meterRegistry, "key-ordered");
+        this.keyOrderedModeTimer = processTimer(meterRegistry, "key-ordered");
+    }
 
     /**
      * 여러 토픽을 동시에 구독하는 Multi-topic Listener
      */
     @KafkaListener(
+        id = "multiTopicEventListener",
         topics = {USER_EVENT_TOPIC, SCM_EVENT_TOPIC, BUSINESS_EVENT_TOPIC, ALARM_EVENT_TOPIC},
         groupId = "${spring.kafka.consumer.group-id}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "#{!${gateway.kafka.batch.enabled:false}}"
     )
     public void handleMultiTopicEvents(
         @Payload String message,
@@ -43,53 +112,229 @@ public class MultiTopicEventListener {
         @Header(KafkaHeaders.OFFSET) long offset,
         Acknowledgment acknowledgment
     ) {
+        long startedAt = System.nanoTime();
         try {
             log.info("멀티 토픽 메시지 수신 - Topic: {}, Partition: {}, Offset: {}",
                 topic, partition, offset);
 
-            // 토픽별로 다른 처리
-            switch (topic) {
-                case USER_EVENT_TOPIC:
-                    handleUserEvent(message);
-                    break;
-                case SCM_EVENT_TOPIC:
-                    handleScmEvent(message);
-                    break;
-                case BUSINESS_EVENT_TOPIC:
-                    handleBusinessEvent(message);
-                    break;
-                case ALARM_EVENT_TOPIC:
-                    handleAlarmEvent(message);
-                    break;
-                default:
-                    log.warn("알 수 없는 토픽 - Topic: {}", topic);
-            }
+            // 실패하면 ack 하지 않고 예외를 그대로 던져 KafkaErrorHandler 가 재시도/DLQ 토픽으로 넘기도록 함
+            dispatch(topic, message);
 
             acknowledgment.acknowledge();
             log.info("멀티 토픽 메시지 처리 완료 - Topic: {}", topic);
+        } finally {
+            recordModeCounter.increment();
+            recordModeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * poll 단위 배치 리스너 (토픽별 그룹 병렬 처리, 배치당 한 번 커밋)
+     */
+    @KafkaListener(
+        id = "multiTopicEventBatchListener",
+        topics = {USER_EVENT_TOPIC, SCM_EVENT_TOPIC, BUSINESS_EVENT_TOPIC, ALARM_EVENT_TOPIC},
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "${gateway.kafka.batch.enabled:false}"
+    )
+    public void handleMultiTopicEventBatch(
+        List<ConsumerRecord<String, Object>> records,
+        Acknowledgment acknowledgment,
+        Consumer<?, ?> consumer
+    ) {
+        if (batchProperties.isKeyOrdered()) {
+            processKeyOrdered(records, consumer);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(records);
+        AtomicBoolean abandoned = new AtomicBoolean();
+
+        // 토픽별로 묶되 각 그룹 안에서는 수신 순서 유지
+        Map<String, List<ConsumerRecord<String, Object>>> byTopic = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            byTopic.computeIfAbsent(record.topic(), topic -> new ArrayList<>()).add(record);
+        }
+
+        CompletableFuture<?>[] groups = byTopic.entrySet().stream()
+            .map(entry -> submitGroup(entry.getKey(), entry.getValue(), tracker, abandoned))
+            .toArray(CompletableFuture[]::new);
 
+        try {
+            if (awaitAll(groups, abandoned, "멀티 토픽 배치", records.size())) {
+                acknowledgment.acknowledge();
+                log.info("멀티 토픽 배치 처리 완료 - records: {}, topics: {}, elapsedMs: {}",
+                    records.size(), byTopic.keySet(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } else {
+                // ack 하지 않고 완료 구간만 커밋, 나머지는 되감아 다음 ack 가 미처리 레코드를 덮어 커밋하지 않도록 함
+                commitCompleted(tracker, consumer);
+            }
+        } finally {
+            batchModeCounter.increment(records.size());
+            batchModeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 키 단위 병렬 처리 후 파티션별 완료 구간만 커밋 (커밋/seek 은 리스너 스레드에서 수행)
+     * 시간 초과/실패 시에는 모든 lane 이 멈춘 뒤에 되감으므로, 되감은 레코드가 이전 lane 과 동시에 다시 처리되지 않습니다.
+     */
+    private void processKeyOrdered(List<ConsumerRecord<String, Object>> records, Consumer<?, ?> consumer) {
+        long startedAt = System.nanoTime();
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(records);
+        AtomicBoolean abandoned = new AtomicBoolean();
+
+        // 키가 없는 레코드는 파티션 단위로 묶어 기존 순서를 유지
+        Map<String, List<ConsumerRecord<String, Object>>> byKey = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            String key = record.topic() + ":" + (record.key() != null ? record.key() : "#" + record.partition());
+            byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(record);
+        }
+
+        CompletableFuture<?>[] lanes = byKey.values().stream()
+            .map(lane -> CompletableFuture.runAsync(() -> processLane(lane, tracker, abandoned), keyOrderedExecutor))
+            .toArray(CompletableFuture[]::new);
+
+        try {
+            if (awaitAll(lanes, abandoned, "키 순서 배치", records.size())) {
+                log.info("키 순서 배치 처리 완료 - records: {}, keys: {}, elapsedMs: {}",
+                    records.size(), byKey.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+            // awaitAll 이 반환된 시점에는 모든 lane 이 끝나 있으므로 안전하게 커밋/되감기
+            commitCompleted(tracker, consumer);
+        } finally {
+            keyOrderedModeCounter.increment(records.size());
+            keyOrderedModeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void processLane(List<ConsumerRecord<String, Object>> lane, PartitionOffsetTracker tracker,
+                             AtomicBoolean abandoned) {
+        for (ConsumerRecord<String, Object> record : lane) {
+            if (abandoned.get()) {
+                return;
+            }
+            processRecord(record, tracker);
+        }
+    }
+
+    // 완료 구간은 커밋하고, 끝나지 않은 파티션은 첫 미완료 오프셋부터 다시 읽도록 되감음
+    private void commitCompleted(PartitionOffsetTracker tracker, Consumer<?, ?> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> committable = tracker.committable();
+        try {
+            if (!committable.isEmpty()) {
+                consumer.commitSync(committable);
+            }
         } catch (Exception e) {
-            log.error("멀티 토픽 메시지 처리 실패 - Topic: {}", topic, e);
+            log.warn("[WARN] 배치 오프셋 커밋 실패 - offsets: {}, reason: {}", committable, e.getMessage());
+        }
+        tracker.firstIncomplete().forEach((partition, offset) -> {
+            log.warn("[WARN] 미완료 레코드 재처리 예정 - partition: {}, offset: {}", partition, offset);
+            consumer.seek(partition, offset);
+        });
+    }
+
+    /**
+     * 제한 시간 안에 모두 끝나면 true.
+     * 시간 초과/실패 시 남은 레코드 처리를 멈추게 하고, 실행 중인 레코드가 끝날 때까지 기다린 뒤 false 를 반환합니다.
+     * (되감기 전에 모든 작업이 멈춰 있어야 같은 파티션의 레코드가 중복·동시 처리되지 않음)
+     */
+    private boolean awaitAll(CompletableFuture<?>[] tasks, AtomicBoolean abandoned, String mode, int records) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(tasks);
+        try {
+            all.get(batchProperties.getGroupTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.error("{} 처리 시간 초과 - records: {}", mode, records);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("{} 처리 중단 - records: {}", mode, records);
+        } catch (ExecutionException e) {
+            log.error("{} 처리 실패 - records: {}", mode, records, e.getCause());
         }
+        abandoned.set(true);
+        all.handle((result, ex) -> null).join();
+        return false;
     }
 
-    private void handleUserEvent(String message) {
+    // 거절된 그룹은 실패한 작업으로 두어 awaitAll 이 되감기 경로로 보내도록 함
+    // (리스너 스레드에서 직접 돌리면 awaitAll 전에 실행되어 group-timeout 으로 끊을 수 없음)
+    private CompletableFuture<Void> submitGroup(String topic, List<ConsumerRecord<String, Object>> records,
+                                                PartitionOffsetTracker tracker, AtomicBoolean abandoned) {
         try {
-            UserEvent event = objectMapper.readValue(message, UserEvent.class);
-            log.info("사용자 이벤트 처리 중 - UserId: {}, Action: {}", event.getUserId(), event.getAction());
+            return CompletableFuture.runAsync(() -> processGroup(topic, records, tracker, abandoned), batchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("[WARN] 멀티 토픽 배치 풀 포화로 그룹 거절 - Topic: {}, records: {}", topic, records.size());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void processGroup(String topic, List<ConsumerRecord<String, Object>> records,
+                              PartitionOffsetTracker tracker, AtomicBoolean abandoned) {
+        for (ConsumerRecord<String, Object> record : records) {
+            if (abandoned.get()) {
+                return;
+            }
+            processRecord(record, tracker);
+        }
+        log.debug("멀티 토픽 그룹 처리 완료 - Topic: {}, records: {}", topic, records.size());
+    }
+
+    // 실패한 레코드는 재시도/DLQ 토픽으로 넘긴 뒤 완료로 표시
+    // 넘기지도 못하면 완료로 표시하지 않고 예외로 작업을 멈춰, 커밋 구간이 이 레코드 앞에서 끊기고 다음 poll 에서 다시 처리되도록 함
+    private void processRecord(ConsumerRecord<String, Object> record, PartitionOffsetTracker tracker) {
+        try {
+            dispatch(record.topic(), record.value());
+        } catch (Exception e) {
+            log.error("멀티 토픽 메시지 처리 실패 - Topic: {}, Partition: {}, Offset: {}",
+                record.topic(), record.partition(), record.offset(), e);
+            if (!deadLetterQueueHandler.forward(record, e)) {
+                throw new IllegalStateException("실패한 레코드를 재시도/DLQ 토픽으로 넘기지 못했습니다. - Topic: "
+                    + record.topic() + ", Partition: " + record.partition() + ", Offset: " + record.offset(), e);
+            }
+        }
+        tracker.complete(record);
+    }
+
+    // 토픽별로 다른 처리
+    private void dispatch(String topic, Object message) {
+        switch (topic) {
+            case USER_EVENT_TOPIC:
+                handleUserEvent(message);
+                break;
+            case SCM_EVENT_TOPIC:
+                handleScmEvent(message);
+                break;
+            case BUSINESS_EVENT_TOPIC:
+                handleBusinessEvent(message);
+                break;
+            case ALARM_EVENT_TOPIC:
+                handleAlarmEvent(message);
+                break;
+            default:
+                log.warn("알 수 없는 토픽 - Topic: {}", topic);
+        }
+    }
+
+    private void handleUserEvent(Object message) {
+        try {
+            UserEvent event = toEvent(message, UserEvent.class);
+            log.debug("사용자 이벤트 처리 중 - UserId: {}, Action: {}", event.getUserId(), event.getAction());
 
             // User 이벤트 처리 로직
             multiTopicEventHandler.handleUserEvent(event);
 
         } catch (Exception e) {
-            log.error("사용자 이벤트 파싱 실패", e);
+            throw new IllegalStateException("사용자 이벤트 처리 실패: " + e.getMessage(), e);
         }
     }
 
-    private void handleScmEvent(String message) {
+    private void handleScmEvent(Object message) {
         try {
-            ScmEvent event = objectMapper.readValue(message, ScmEvent.class);
-            log.info(
+            ScmEvent event = toEvent(message, ScmEvent.class);
+            log.debug(
                 "SCM 이벤트 처리 중 - OrderId: {}, Action: {}",
                 event.getOrderId(), event.getAction()
             );
@@ -98,35 +343,58 @@ public class MultiTopicEventListener {
             multiTopicEventHandler.handleScmEvent(event);
 
         } catch (Exception e) {
-            log.error("SCM 이벤트 파싱 실패", e);
+            throw new IllegalStateException("SCM 이벤트 처리 실패: " + e.getMessage(), e);
         }
     }
 
-    private void handleBusinessEvent(String message) {
+    private void handleBusinessEvent(Object message) {
         try {
-            BusinessEvent event = objectMapper.readValue(message, BusinessEvent.class);
-            log.info("비즈니스 이벤트 처리 중 - BusinessId: {}, Action: {}",
+            BusinessEvent event = toEvent(message, BusinessEvent.class);
+            log.debug("비즈니스 이벤트 처리 중 - BusinessId: {}, Action: {}",
                 event.getBusinessId(), event.getAction());
 
             // Business 이벤트 처리 로직
             multiTopicEventHandler.handleBusinessEvent(event);
 
         } catch (Exception e) {
-            log.error("비즈니스 이벤트 파싱 실패", e);
+            throw new IllegalStateException("비즈니스 이벤트 처리 실패: " + e.getMessage(), e);
         }
     }
 
-    private void handleAlarmEvent(String message) {
+    private void handleAlarmEvent(Object message) {
         try {
-            AlarmEvent event = objectMapper.readValue(message, AlarmEvent.class);
-            log.info("알림 이벤트 처리 중 - AlarmId: {}, Type: {}", event.getAlarmId(),
+            AlarmEvent event = toEvent(message, AlarmEvent.class);
+            log.debug("알림 이벤트 처리 중 - AlarmId: {}, Type: {}", event.getAlarmId(),
                 event.getAlarmType());
 
             // Alarm 이벤트 처리 로직
             multiTopicEventHandler.handleAlarmEvent(event);
 
         } catch (Exception e) {
-            log.error("알림 이벤트 파싱 실패", e);
+            throw new IllegalStateException("알림 이벤트 처리 실패: " + e.getMessage(), e);
         }
     }
+
+    // 건별 모드는 문자열로, 배치 모드는 역직렬화된 값(Map 등)으로 들어오므로 문자열일 때만 다시 파싱
+    private <T> T toEvent(Object message, Class<T> type) throws Exception {
+        if (type.isInstance(message)) {
+            return type.cast(message);
+        }
+        if (message instanceof String json) {
+            return objectMapper.readValue(json, type);
+        }
+        return objectMapper.convertValue(message, type);
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("gateway.kafka.multi-topic.records")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    private static Timer processTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("gateway.kafka.multi-topic.process")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
 }
@@ -1,8 +1,11 @@
 package org.ever._4ever_be_gw.infrastructure.kafka.consumer.handler.impl;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ever._4ever_be_gw.alarm.service.AlarmSendService;
+import org.ever._4ever_be_gw.config.cache.CacheTags;
+import org.ever._4ever_be_gw.config.cache.ResponseCache;
 import org.ever._4ever_be_gw.infrastructure.kafka.consumer.handler.MultiTopicEventHandler;
 import org.ever.event.AlarmEvent;
 import org.ever.event.BusinessEvent;
@@ -16,35 +19,27 @@ import org.springframework.stereotype.Component;
 public class MultiTopicEventHandlerImpl implements MultiTopicEventHandler {
 
     private final AlarmSendService alarmSendService;
+    private final ResponseCache responseCache;
 
     @Override
     public void handleUserEvent(UserEvent event) {
-        // User 서비스에서 받은 이벤트 처리
+        // 사용자 정보 변경 → 프로필/직원 목록 캐시 무효화
+        invalidateCache("USER", event.getAction(), CacheTags.forEvent(event));
         log.debug("사용자 이벤트 처리 완료 - Action: {}", event.getAction());
-
-        // TODO: 실제 비즈니스 로직 구현
-        // 1. 사용자 정보 업데이트
-        // 2. 다른 서비스로 이벤트 라우팅
     }
 
     @Override
     public void handleScmEvent(ScmEvent event) {
-        // SCM 서비스에서 받은 이벤트 처리
+        // 재고/출하 변경 → 재고·품목·창고 캐시 무효화
+        invalidateCache("SCM", event.getAction(), CacheTags.forEvent(event));
         log.debug("SCM 이벤트 처리 완료 - Action: {}", event.getAction());
-
-        // TODO: 실제 비즈니스 로직 구현
-        // 1. 재고 정보 확인
-        // 2. 주문 상태 업데이트
     }
 
     @Override
     public void handleBusinessEvent(BusinessEvent event) {
-        // Business 서비스에서 받은 이벤트 처리
+        // 주문/전표 변경 → 관련 사용자 캐시 무효화 (주문/전표 응답 자체는 캐시하지 않음)
+        invalidateCache("BUSINESS", event.getAction(), CacheTags.forEvent(event));
         log.debug("비즈니스 이벤트 처리 완료 - Action: {}", event.getAction());
-
-        // TODO: 실제 비즈니스 로직 구현
-        // 1. 비즈니스 로직 처리
-        // 2. 데이터 동기화
     }
 
     @Override
@@ -61,4 +56,17 @@ public class MultiTopicEventHandlerImpl implements MultiTopicEventHandler {
 
         log.info("알림 이벤트 처리 완료 - eventId: {}", event.getEventId());
     }
+
+    // 캐시 무효화 실패가 이벤트 처리 실패로 번지지 않도록 경고만 남김 (항목은 TTL 로 만료)
+    private void invalidateCache(String source, Object action, Set<String> tags) {
+        if (tags.isEmpty() || !responseCache.isEnabled()) {
+            return;
+        }
+        try {
+            responseCache.invalidateTags(tags);
+        } catch (Exception e) {
+            log.warn("[WARN] 이벤트 기반 캐시 무효화 실패 - source: {}, action: {}, tags: {}, reason: {}",
+                source, action, tags, e.getMessage());
+        }
+    }
 }
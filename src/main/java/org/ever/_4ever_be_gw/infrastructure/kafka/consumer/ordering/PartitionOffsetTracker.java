@@ -0,0 +1,104 @@
+package org.ever._4ever_be_gw.infrastructure.kafka.consumer.ordering;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * 한 번의 poll 에 담긴 레코드의 파티션별 완료 상태
+ * - 레코드는 키 단위로 병렬 처리되므로 파티션 안에서 완료 순서가 뒤섞일 수 있습니다.
+ * - 커밋은 파티션마다 앞에서부터 끊김 없이 완료된 구간까지만 허용하고, 첫 미완료 오프셋부터는 다시 읽도록 합니다.
+ * - 구조는 리스너 스레드에서 만들고, 완료 표시만 워커 스레드에서 호출합니다.
+ */
+public class PartitionOffsetTracker {
+
+    private final Map<TopicPartition, Partition> partitions = new LinkedHashMap<>();
+
+    public PartitionOffsetTracker(List<? extends ConsumerRecord<?, ?>> records) {
+        Map<TopicPartition, long[]> offsets = new LinkedHashMap<>();
+        Map<TopicPartition, Integer> sizes = new LinkedHashMap<>();
+        for (ConsumerRecord<?, ?> record : records) {
+            TopicPartition tp = new TopicPartition(record.topic(), record.partition());
+            long[] current = offsets.computeIfAbsent(tp, key -> new long[8]);
+            int size = sizes.getOrDefault(tp, 0);
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+                offsets.put(tp, current);
+            }
+            current[size] = record.offset();
+            sizes.put(tp, size + 1);
+        }
+        offsets.forEach((tp, values) -> partitions.put(tp, new Partition(Arrays.copyOf(values, sizes.get(tp)))));
+    }
+
+    public void complete(ConsumerRecord<?, ?> record) {
+        Partition partition = partitions.get(new TopicPartition(record.topic(), record.partition()));
+        if (partition != null) {
+            partition.complete(record.offset());
+        }
+    }
+
+    /**
+     * 파티션별로 커밋 가능한 다음 오프셋 (앞에서부터 완료된 레코드가 하나도 없는 파티션은 제외)
+     */
+    public Map<TopicPartition, OffsetAndMetadata> committable() {
+        Map<TopicPartition, OffsetAndMetadata> result = new LinkedHashMap<>();
+        partitions.forEach((tp, partition) -> {
+            long next = partition.nextCommitOffset();
+            if (next >= 0) {
+                result.put(tp, new OffsetAndMetadata(next));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 아직 끝나지 않은 파티션의 첫 미완료 오프셋 (다시 읽을 위치)
+     */
+    public Map<TopicPartition, Long> firstIncomplete() {
+        Map<TopicPartition, Long> result = new LinkedHashMap<>();
+        partitions.forEach((tp, partition) -> {
+            long offset = partition.firstIncomplete();
+            if (offset >= 0) {
+                result.put(tp, offset);
+            }
+        });
+        return result;
+    }
+
+    private static final class Partition {
+
+        // poll 결과 안에서 파티션별 오프셋은 오름차순
+        private final long[] offsets;
+        private final boolean[] done;
+        private int prefix;
+
+        private Partition(long[] offsets) {
+            this.offsets = offsets;
+            this.done = new boolean[offsets.length];
+        }
+
+        synchronized void complete(long offset) {
+            int index = Arrays.binarySearch(offsets, offset);
+            if (index < 0) {
+                return;
+            }
+            done[index] = true;
+            while (prefix < done.length && done[prefix]) {
+                prefix++;
+            }
+        }
+
+        synchronized long nextCommitOffset() {
+            return prefix == 0 ? -1L : offsets[prefix - 1] + 1;
+        }
+
+        synchronized long firstIncomplete() {
+            return prefix == offsets.length ? -1L : offsets[prefix];
+        }
+    }
+}
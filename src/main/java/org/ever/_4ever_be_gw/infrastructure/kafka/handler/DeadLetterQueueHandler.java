@@ -16,4 +16,17 @@ public interface DeadLetterQueueHandler {
      * 재시도 로직
      */
     boolean shouldRetry(Exception exception, int attemptCount, int maxAttempts);
+
+    /**
+     * 처리에 실패한 레코드를 다음 재시도 단계 토픽(없으면 DLQ)으로 넘깁니다.
+     * 전송이 확인되면 true (원본 오프셋 커밋 가능), 실패하면 false (원본을 다시 처리)
+     */
+    boolean forward(ConsumerRecord<?, ?> record, Exception exception);
+
+    /**
+     * DLQ 레코드를 원래 토픽으로 초당 ratePerSecond 건 이하로 다시 발행합니다.
+     *
+     * @return 재발행한 레코드 수
+     */
+    int replay(String dlqTopic, int limit, double ratePerSecond);
 }
@@ -1,17 +1,22 @@
 package org.ever._4ever_be_gw.infrastructure.kafka.handler;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class KafkaErrorHandler implements CommonErrorHandler {
 
+    private final DeadLetterQueueHandler deadLetterQueueHandler;
+
     @Override
     public void handleOtherException(Exception thrownException, Consumer<?, ?> consumer,
                                      MessageListenerContainer container, boolean batchListener) {
@@ -29,11 +34,14 @@ public class KafkaErrorHandler implements CommonErrorHandler {
         log.error("레코드 처리 중 에러 발생 - Topic: {}, Partition: {}, Offset: {}",
             record.topic(), record.partition(), record.offset(), thrownException);
 
-        // 재처리 여부 결정
-        // true: 메시지 재처리 (retry)
-        // false: 메시지 skip
-
-        return false; // 메시지 스킵
+        // 실패한 레코드는 재시도 토픽(또는 DLQ)으로 넘기고 원래 파티션은 바로 다음 레코드로 진행
+        // true: 처리 완료로 보고 다음 레코드로 진행
+        // false: 넘기기에 실패 → 같은 레코드를 다시 처리 (유실 방지)
+        Exception cause = thrownException instanceof ListenerExecutionFailedException
+            && thrownException.getCause() instanceof Exception listenerCause
+            ? listenerCause
+            : thrownException;
+        return deadLetterQueueHandler.forward(record, cause);
     }
 
     @Override
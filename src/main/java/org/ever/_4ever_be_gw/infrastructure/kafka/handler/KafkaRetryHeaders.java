@@ -0,0 +1,46 @@
+package org.ever._4ever_be_gw.infrastructure.kafka.handler;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 재시도/DLQ 토픽으로 보낼 때 붙이는 실패 정보 헤더
+ */
+public final class KafkaRetryHeaders {
+
+    public static final String ORIGINAL_TOPIC = "x-original-topic";
+    public static final String ORIGINAL_PARTITION = "x-original-partition";
+    public static final String ORIGINAL_OFFSET = "x-original-offset";
+    public static final String ATTEMPT = "x-attempt";
+    public static final String EXCEPTION_CLASS = "x-exception-class";
+    public static final String EXCEPTION_MESSAGE = "x-exception-message";
+    public static final String FAILED_AT = "x-failed-at";
+    // 재시도 토픽 레코드를 처리해도 되는 시각 (epoch ms)
+    public static final String DUE_AT = "x-retry-due-at";
+    public static final String REPLAYED_AT = "x-replayed-at";
+
+    private KafkaRetryHeaders() {
+    }
+
+    public static String get(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    public static long getLong(Headers headers, String name, long defaultValue) {
+        String value = get(headers, name);
+        try {
+            return value != null ? Long.parseLong(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static void set(Headers headers, String name, Object value) {
+        headers.remove(name);
+        if (value != null) {
+            headers.add(name, String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
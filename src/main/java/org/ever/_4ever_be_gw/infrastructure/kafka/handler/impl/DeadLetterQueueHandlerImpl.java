@@ -1,29 +1,88 @@
 package org.ever._4ever_be_gw.infrastructure.kafka.handler.impl;
 
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_10S_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_1S_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_RETRY_60S_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.ALARM_SENT_TOPIC;
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.DLQ_SUFFIX;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.ever._4ever_be_gw.infrastructure.kafka.handler.DeadLetterQueueHandler;
+import org.ever._4ever_be_gw.infrastructure.kafka.handler.KafkaRetryHeaders;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Component;
 
+/**
+ * 재시도 토픽 / DLQ 처리
+ * - 실패한 레코드는 단계별 재시도 토픽(1초 → 10초 → 60초)을 거쳐 DLQ 로 이동합니다.
+ *   각 단계 토픽의 리스너는 x-retry-due-at 이 지날 때까지 해당 파티션만 멈춰 두므로 원래 토픽 소비는 막히지 않습니다.
+ * - 역직렬화/파싱 오류처럼 다시 해도 같은 결과가 나오는 실패는 바로 DLQ 로 보냅니다.
+ *   역직렬화에 실패한 레코드(value 가 null)는 원본 바이트를 그대로 보내 DLQ 에서 내용을 확인하고 재처리할 수 있게 합니다.
+ * - DLQ 재처리는 DLQ 파티션을 직접 할당받아 재처리 그룹의 커밋 위치부터 시작 시점의 끝 오프셋까지 원본 바이트로 읽고,
+ *   원래 토픽에 속도 제한을 두고 그대로 다시 발행합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DeadLetterQueueHandlerImpl implements DeadLetterQueueHandler {
 
+    private static final Map<String, RetryTier> NEXT_TIER = Map.of(
+        ALARM_SENT_TOPIC, new RetryTier(ALARM_SENT_RETRY_1S_TOPIC, Duration.ofSeconds(1)),
+        ALARM_SENT_RETRY_1S_TOPIC, new RetryTier(ALARM_SENT_RETRY_10S_TOPIC, Duration.ofSeconds(10)),
+        ALARM_SENT_RETRY_10S_TOPIC, new RetryTier(ALARM_SENT_RETRY_60S_TOPIC, Duration.ofSeconds(60))
+    );
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 500;
+    private static final String REPLAY_GROUP_ID = "gw-dlq-replay";
+    private static final Duration REPLAY_POLL_TIMEOUT = Duration.ofSeconds(1);
+    // 끝 오프셋에 도달하지 못한 채 빈 poll 이 이어질 때(브로커 장애 등)만 멈추기 위한 안전장치
+    private static final int REPLAY_MAX_EMPTY_POLLS = 3;
+
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(DeadLetterQueueHandlerImpl.class);
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
-    private static final String DLQ_SUFFIX = ".dlq";
+    private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final AtomicBoolean replaying = new AtomicBoolean();
 
     @Override
     public void sendToDeadLetterQueue(ConsumerRecord<?, ?> record, Exception exception) {
-        String dlqTopic = record.topic() + DLQ_SUFFIX;
+        String dlqTopic = originalTopic(record) + DLQ_SUFFIX;
 
         log.error("DLQ로 메시지 전송 - Topic: {}, Partition: {}, Offset: {}, Error: {}",
             record.topic(), record.partition(), record.offset(), exception.getMessage());
 
         try {
-            kafkaTemplate.send(dlqTopic, record.key().toString(), record.value())
+            send(failedRecord(record, exception, dlqTopic, null))
                 .whenComplete((result, ex) -> {
                     if (ex != null) {
                         log.error("DLQ 메시지 전송 실패 - DLQ Topic: {}", dlqTopic, ex);
@@ -52,10 +111,236 @@ public class DeadLetterQueueHandlerImpl implements DeadLetterQueueHandler {
         return false;
     }
 
+    @Override
+    public boolean forward(ConsumerRecord<?, ?> record, Exception exception) {
+        RetryTier tier = NEXT_TIER.get(record.topic());
+        boolean retry = tier != null && !isPoison(record, exception) && isRetryableException(exception);
+        String target = retry ? tier.topic() : originalTopic(record) + DLQ_SUFFIX;
+        Long dueAt = retry ? System.currentTimeMillis() + tier.delay().toMillis() : null;
+
+        try {
+            send(failedRecord(record, exception, target, dueAt))
+                .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (retry) {
+                log.warn("[WARN] 재시도 토픽으로 이동 - from: {}, to: {}, partition: {}, offset: {}, reason: {}",
+                    record.topic(), target, record.partition(), record.offset(), exception.getMessage());
+            } else {
+                log.error("DLQ로 메시지 전송 - Topic: {}, Partition: {}, Offset: {}, Error: {}",
+                    record.topic(), record.partition(), record.offset(), exception.getMessage());
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("재시도/DLQ 전송 실패 - target: {}, partition: {}, offset: {}",
+                target, record.partition(), record.offset(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public int replay(String dlqTopic, int limit, double ratePerSecond) {
+        if (!replaying.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 DLQ 재처리가 진행 중입니다.");
+        }
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, Math.min(limit, 100)));
+        // 역직렬화하지 않고 원본 바이트 그대로 다시 발행 (역직렬화에 실패했던 레코드도 재처리 가능)
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        long intervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0L;
+        int replayed = 0;
+        try (Consumer<String, Object> consumer =
+                 consumerFactory.createConsumer(REPLAY_GROUP_ID, null, "-dlq-replay", overrides)) {
+            // 그룹 리밸런스 없이 DLQ 파티션을 직접 할당받아, 재처리 그룹이 커밋한 위치부터 시작 시점의 끝 오프셋까지만 읽음
+            // (재처리 중 새로 들어온 DLQ 레코드는 다음 재처리 대상)
+            Map<TopicPartition, Long> endOffsets = assignFromCommitted(consumer, dlqTopic);
+            long nextSendAt = System.nanoTime();
+            int emptyPolls = 0;
+
+            while (replayed < limit && !endOffsets.isEmpty() && emptyPolls < REPLAY_MAX_EMPTY_POLLS) {
+                ConsumerRecords<String, Object> records = consumer.poll(REPLAY_POLL_TIMEOUT);
+                emptyPolls = records.isEmpty() ? emptyPolls + 1 : 0;
+
+                // 다시 발행한 레코드까지만 커밋 (남은 레코드는 다음 재처리 때 이어서)
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                try {
+                    for (ConsumerRecord<String, Object> record : records) {
+                        if (replayed >= limit) {
+                            break;
+                        }
+                        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                        Long endOffset = endOffsets.get(partition);
+                        if (endOffset == null || record.offset() >= endOffset) {
+                            continue;
+                        }
+                        long wait = nextSendAt - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        nextSendAt = Math.max(nextSendAt, System.nanoTime()) + intervalNanos;
+
+                        send(replayRecord(record, dlqTopic))
+                            .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                        replayed++;
+                    }
+                } finally {
+                    if (!offsets.isEmpty()) {
+                        consumer.commitSync(offsets);
+                    }
+                }
+                endOffsets.keySet().removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+            }
+            log.info("[INFO] DLQ 재처리 완료 - topic: {}, replayed: {}", dlqTopic, replayed);
+            return replayed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLQ 재처리가 중단되었습니다. (재발행 " + replayed + "건)", e);
+        } catch (Exception e) {
+            log.error("DLQ 재처리 실패 - topic: {}, replayed: {}", dlqTopic, replayed, e);
+            throw new IllegalStateException("DLQ 재처리 중 오류가 발생했습니다. (재발행 " + replayed + "건)", e);
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    // DLQ 파티션을 직접 할당하고 재처리 그룹의 커밋 위치(없으면 처음)로 이동, 읽을 레코드가 남은 파티션의 끝 오프셋을 반환
+    private static Map<TopicPartition, Long> assignFromCommitted(Consumer<String, Object> consumer, String dlqTopic) {
+        List<PartitionInfo> infos = consumer.partitionsFor(dlqTopic);
+        if (infos == null || infos.isEmpty()) {
+            log.warn("[WARN] DLQ 토픽 파티션 없음 - topic: {}", dlqTopic);
+            return new HashMap<>();
+        }
+        List<TopicPartition> partitions = infos.stream()
+            .map(info -> new TopicPartition(info.topic(), info.partition()))
+            .toList();
+        consumer.assign(partitions);
+
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        Map<TopicPartition, Long> endOffsets = new HashMap<>(consumer.endOffsets(partitions));
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            if (offset != null) {
+                consumer.seek(partition, offset.offset());
+            } else {
+                consumer.seekToBeginning(List.of(partition));
+            }
+        }
+        endOffsets.keySet().removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+        return endOffsets;
+    }
+
+    private ProducerRecord<String, Object> failedRecord(ConsumerRecord<?, ?> record, Exception exception,
+        String target, Long dueAt) {
+        // 역직렬화에 실패한 레코드는 value 가 null 이므로 예외에 담긴 원본 바이트를 보냄
+        DeserializationException poison = record.value() == null ? deserializationException(record, exception) : null;
+        Object value = poison != null ? poison.getData() : record.value();
+        Headers headers = copyHeaders(record.headers(), value instanceof byte[]);
+        if (KafkaRetryHeaders.get(headers, KafkaRetryHeaders.ORIGINAL_TOPIC) == null) {
+            KafkaRetryHeaders.set(headers, KafkaRetryHeaders.ORIGINAL_TOPIC, record.topic());
+            KafkaRetryHeaders.set(headers, KafkaRetryHeaders.ORIGINAL_PARTITION, record.partition());
+            KafkaRetryHeaders.set(headers, KafkaRetryHeaders.ORIGINAL_OFFSET, record.offset());
+        }
+        long attempt = KafkaRetryHeaders.getLong(headers, KafkaRetryHeaders.ATTEMPT, 0) + 1;
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.ATTEMPT, attempt);
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.EXCEPTION_CLASS, exception.getClass().getName());
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.EXCEPTION_MESSAGE, truncate(exception.getMessage()));
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.FAILED_AT, System.currentTimeMillis());
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.DUE_AT, dueAt);
+
+        String key = record.key() != null ? record.key().toString() : null;
+        return new ProducerRecord<>(target, null, key, value, headers);
+    }
+
+    private ProducerRecord<String, Object> replayRecord(ConsumerRecord<String, Object> record, String dlqTopic) {
+        String target = KafkaRetryHeaders.get(record.headers(), KafkaRetryHeaders.ORIGINAL_TOPIC);
+        if (target == null) {
+            target = dlqTopic.endsWith(DLQ_SUFFIX)
+                ? dlqTopic.substring(0, dlqTopic.length() - DLQ_SUFFIX.length())
+                : dlqTopic;
+        }
+        // 재처리된 레코드는 재시도 단계를 처음부터 다시 거침
+        Headers headers = copyHeaders(record.headers(), record.value() instanceof byte[]);
+        headers.remove(KafkaRetryHeaders.ATTEMPT);
+        headers.remove(KafkaRetryHeaders.DUE_AT);
+        KafkaRetryHeaders.set(headers, KafkaRetryHeaders.REPLAYED_AT, System.currentTimeMillis());
+        return new ProducerRecord<>(target, null, record.key(), record.value(), headers);
+    }
+
+    // 원본 바이트(byte[])는 JSON 으로 다시 감싸지 않도록 바이트 템플릿으로 전송
+    private CompletableFuture<?> send(ProducerRecord<String, Object> record) {
+        if (record.value() instanceof byte[] raw) {
+            return byteArrayKafkaTemplate.send(
+                new ProducerRecord<>(record.topic(), null, record.key(), raw, record.headers()));
+        }
+        return kafkaTemplate.send(record);
+    }
+
+    // 직렬화 타입 헤더(__TypeId__ 등)는 객체를 다시 직렬화할 때 새로 붙으므로 제외하고,
+    // 원본 바이트를 그대로 보낼 때는 받는 쪽이 같은 타입으로 역직렬화할 수 있도록 유지
+    // 역직렬화 예외 헤더는 예외 전체가 직렬화된 값이라 옮기지 않음 (예외 클래스/메시지는 x-exception-* 헤더로 전달)
+    private static Headers copyHeaders(Headers source, boolean keepTypeHeaders) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : source) {
+            if (header.key().equals(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)
+                || header.key().equals(SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER)) {
+                continue;
+            }
+            if (keepTypeHeaders || !header.key().startsWith("__")) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+
+    private static boolean isPoison(ConsumerRecord<?, ?> record, Exception exception) {
+        return record.value() == null && deserializationException(record, exception) != null;
+    }
+
+    // 건별 리스너는 DeserializationException 이 그대로 전달되고, 배치 리스너는 레코드 헤더에만 남아 있음
+    private static DeserializationException deserializationException(ConsumerRecord<?, ?> record,
+        Exception exception) {
+        Throwable cause = exception;
+        while (cause != null) {
+            if (cause instanceof DeserializationException deserializationException) {
+                return deserializationException;
+            }
+            cause = cause.getCause();
+        }
+        return SerializationUtils.getExceptionFromHeader(record,
+            SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+    }
+
+    private static String originalTopic(ConsumerRecord<?, ?> record) {
+        String original = KafkaRetryHeaders.get(record.headers(), KafkaRetryHeaders.ORIGINAL_TOPIC);
+        return original != null ? original : record.topic();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+
     private boolean isRetryableException(Exception exception) {
-        // 재시도 가능한 예외 판단 로직
-        // 예: 네트워크 오류, 일시적인 DB 연결 오류 등
-        return exception instanceof org.springframework.dao.TransientDataAccessException
-            || exception instanceof java.net.ConnectException;
+        // 다시 처리해도 같은 결과가 나오는 실패(메시지 형식 오류 등)만 재시도하지 않음
+        // 그 외(네트워크, Redis, 일시적인 DB 연결 오류 등)는 재시도 단계로 보냄
+        Throwable cause = exception;
+        while (cause != null) {
+            if (cause instanceof DeserializationException
+                || cause instanceof JsonProcessingException
+                || cause instanceof ClassCastException
+                || cause instanceof IllegalArgumentException) {
+                return false;
+            }
+            cause = cause.getCause();
+        }
+        return true;
+    }
+
+    private record RetryTier(String topic, Duration delay) {
     }
 }
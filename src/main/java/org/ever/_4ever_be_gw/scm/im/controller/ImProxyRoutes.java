@@ -0,0 +1,97 @@
+package org.ever._4ever_be_gw.scm.im.controller;
+
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.BUSINESS;
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.SCM_PP;
+
+import java.time.Duration;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.cache.CacheTags;
+import org.ever._4ever_be_gw.config.proxy.PrincipalAttribute;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteDefinition;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoutes;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고관리(IM) 프록시 라우트 (/scm-pp/iv)
+ */
+@Component
+public class ImProxyRoutes implements ProxyRouteDefinition {
+
+    // 응답 캐시 TTL (토글 목록 / 통계 / 상세)
+    // 상세 조회는 변경 요청과 재고 이벤트로 태그 무효화되므로 TTL 은 안전망 역할만 함
+    private static final Duration TOGGLE_TTL = Duration.ofMinutes(10);
+    private static final Duration STATISTIC_TTL = Duration.ofSeconds(30);
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(5);
+
+    private static final String[] IM_AUTHORITIES = {"IM_USER", "IM_ADMIN", "ALL_ADMIN"};
+
+    @Override
+    public void define(ProxyRoutes routes) {
+        // 재고 목록 조회
+        routes.get("/scm-pp/iv/inventory-items").to(SCM_PP)
+                .queryParams("type", "keyword")
+                .defaultQuery("statusCode", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+
+        // 신규 품목 추가 / 안전재고 수정 / 품목 상세 / 품목 토글
+        routes.post("/scm-pp/iv/items").to(SCM_PP)
+                .invalidates(CacheTags.INVENTORY);
+        routes.patch("/scm-pp/iv/items/{itemId}/safety-stock").to(SCM_PP)
+                .requiredQuery("safetyStock")
+                .invalidates("product:{itemId}", CacheTags.INVENTORY);
+        routes.get("/scm-pp/iv/items/{itemId}").to(SCM_PP)
+                .cache(DETAIL_TTL, CacheScope.GLOBAL)
+                .cacheTags("product:{itemId}");
+        routes.get("/scm-pp/iv/items/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL)
+                .cacheTags(CacheTags.INVENTORY);
+        routes.post("/scm-pp/iv/items/info").to(SCM_PP)
+                .authorities(IM_AUTHORITIES);
+
+        // 부족 재고
+        routes.get("/scm-pp/iv/shortage").to(SCM_PP)
+                .renameQuery("statusCode", "status")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.get("/scm-pp/iv/shortage/preview").to(SCM_PP)
+                .fixedQuery("page", "0")
+                .fixedQuery("size", "5");
+        routes.get("/scm-pp/iv/shortage/count/critical/statistic").to(SCM_PP)
+                .cache(STATISTIC_TTL, CacheScope.GLOBAL)
+                .cacheTags(CacheTags.INVENTORY);
+
+        // 재고 이동
+        routes.get("/scm-pp/iv/stock-transfers").to(SCM_PP);
+        routes.post("/scm-pp/iv/stock-transfers").to(SCM_PP)
+                .authorities(IM_AUTHORITIES)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID)
+                .invalidates(CacheTags.INVENTORY);
+
+        // 창고
+        routes.get("/scm-pp/iv/warehouses").to(SCM_PP)
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "20");
+        routes.post("/scm-pp/iv/warehouses").to(SCM_PP)
+                .authorities(IM_AUTHORITIES)
+                .invalidates(CacheTags.INVENTORY);
+        routes.get("/scm-pp/iv/warehouses/{warehouseId}").to(SCM_PP)
+                .cache(DETAIL_TTL, CacheScope.GLOBAL)
+                .cacheTags("warehouse:{warehouseId}");
+        routes.put("/scm-pp/iv/warehouses/{warehouseId}").to(SCM_PP)
+                .invalidates("warehouse:{warehouseId}", CacheTags.INVENTORY);
+        routes.get("/scm-pp/iv/warehouses/dropdown").to(SCM_PP)
+                .queryParams("warehouseId");
+        routes.get("/scm-pp/iv/warehouses/managers/toggle").to(BUSINESS, "/hrm/departments/inventory/employees")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL)
+                .cacheTags(CacheTags.EMPLOYEES);
+        routes.get("/scm-pp/iv/warehouses/statistic").to(SCM_PP)
+                .cache(STATISTIC_TTL, CacheScope.GLOBAL)
+                .cacheTags(CacheTags.INVENTORY);
+
+        // 통계
+        routes.get("/scm-pp/iv/statistic").to(SCM_PP)
+                .cache(STATISTIC_TTL, CacheScope.GLOBAL)
+                .cacheTags(CacheTags.INVENTORY);
+    }
+}
@@ -0,0 +1,98 @@
+package org.ever._4ever_be_gw.scm.mm.controller;
+
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.SCM_PP;
+
+import java.time.Duration;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.proxy.PrincipalAttribute;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteDefinition;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoutes;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매관리(MM) 프록시 라우트 (/scm-pp/mm)
+ * - 공급사 등록(POST /scm-pp/mm/supplier)은 인증 서버 연동이 필요하여 MmController 에 남아 있습니다.
+ */
+@Component
+public class MmProxyRoutes implements ProxyRouteDefinition {
+
+    // 상태/검색 조건 토글은 거의 바뀌지 않으므로 길게 캐시
+    private static final Duration TOGGLE_TTL = Duration.ofMinutes(10);
+    private static final Duration STATISTIC_TTL = Duration.ofSeconds(30);
+
+    private static final String[] MM_AUTHORITIES = {"MM_USER", "MM_ADMIN", "ALL_ADMIN"};
+
+    @Override
+    public void define(ProxyRoutes routes) {
+        // 공급업체
+        routes.get("/scm-pp/mm/supplier").to(SCM_PP)
+                .queryParams("type", "keyword")
+                .defaultQuery("statusCode", "ALL")
+                .defaultQuery("category", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.get("/scm-pp/mm/supplier/{supplierId}").to(SCM_PP);
+        routes.patch("/scm-pp/mm/supplier/{supplierId}").to(SCM_PP);
+        routes.get("/scm-pp/mm/supplier/orders/statistics").to(SCM_PP)
+                .principalQuery("userId", PrincipalAttribute.USER_ID);
+
+        // 구매 요청
+        routes.post("/scm-pp/mm/stock-purchase-requisitions").to(SCM_PP)
+                .authorities(MM_AUTHORITIES)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+        routes.get("/scm-pp/mm/purchase-requisitions").to(SCM_PP)
+                .queryParams("type", "keyword", "startDate", "endDate")
+                .defaultQuery("statusCode", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "20");
+        routes.get("/scm-pp/mm/purchase-requisitions/{purchaseRequisitionId}").to(SCM_PP);
+        routes.post("/scm-pp/mm/purchase-requisitions").to(SCM_PP)
+                .principalQuery("requestId", PrincipalAttribute.USER_ID);
+        routes.post("/scm-pp/mm/purchase-requisitions/{purchaseRequisitionId}/release")
+                .to(SCM_PP, "/scm-pp/mm/purchase-requisitions/{purchaseRequisitionId}/approve")
+                .authorities(MM_AUTHORITIES)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+        routes.post("/scm-pp/mm/purchase-requisitions/{purchaseRequisitionId}/reject").to(SCM_PP)
+                .authorities(MM_AUTHORITIES)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+
+        // 발주서 (공급사 사용자는 자신의 발주서 목록으로 분기)
+        routes.get("/scm-pp/mm/purchase-orders").to(SCM_PP)
+                .forUserType("SUPPLIER", SCM_PP, "/scm-pp/mm/purchase-orders/supplier/{userId}")
+                .queryParams("type", "keyword", "startDate", "endDate")
+                .defaultQuery("statusCode", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.get("/scm-pp/mm/purchase-orders/{purchaseOrderId}").to(SCM_PP);
+        routes.post("/scm-pp/mm/purchase-orders/{purchaseOrderId}/approve").to(SCM_PP)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+        routes.post("/scm-pp/mm/purchase-orders/{purchaseOrderId}/reject").to(SCM_PP)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+
+        // 배송 / 입고
+        routes.post("/scm-pp/mm/{purchaseOrderId}/start-delivery")
+                .to(SCM_PP, "/scm-pp/mm/purchase-orders/{purchaseOrderId}/start-delivery")
+                .pathVariableQuery("requesterId", "purchaseOrderId");
+        routes.post("/scm-pp/mm/{purchaseOrderId}/complete-delivery")
+                .to(SCM_PP, "/scm-pp/mm/purchase-orders/{purchaseOrderId}/complete-delivery")
+                .pathVariableQuery("requesterId", "purchaseOrderId");
+
+        // 통계 / 토글
+        routes.get("/scm-pp/mm/statistics").to(SCM_PP)
+                .cache(STATISTIC_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/purchase-requisition/status/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/purchase-requisition/search-type/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/purchase-orders/status/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/purchase-orders/search-type/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/supplier/status/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/supplier/category/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/mm/supplier/search-type/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+    }
+}
@@ -0,0 +1,110 @@
+package org.ever._4ever_be_gw.scm.pp.controller;
+
+import static org.ever._4ever_be_gw.config.webclient.ApiClientKey.SCM_PP;
+
+import java.time.Duration;
+import org.ever._4ever_be_gw.config.cache.CacheScope;
+import org.ever._4ever_be_gw.config.proxy.PrincipalAttribute;
+import org.ever._4ever_be_gw.config.proxy.ProxyRouteDefinition;
+import org.ever._4ever_be_gw.config.proxy.ProxyRoutes;
+import org.springframework.stereotype.Component;
+
+/**
+ * 생산관리(PP) 프록시 라우트 (/scm-pp/pp)
+ */
+@Component
+public class PpProxyRoutes implements ProxyRouteDefinition {
+
+    private static final Duration TOGGLE_TTL = Duration.ofMinutes(10);
+    private static final Duration STATISTIC_TTL = Duration.ofSeconds(30);
+
+    private static final String[] PP_AUTHORITIES = {"PP_USER", "PP_ADMIN", "ALL_ADMIN"};
+
+    @Override
+    public void define(ProxyRoutes routes) {
+        // BOM
+        routes.post("/scm-pp/pp/boms").to(SCM_PP);
+        routes.get("/scm-pp/pp/boms").to(SCM_PP)
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.get("/scm-pp/pp/boms/{bomId}").to(SCM_PP);
+        routes.patch("/scm-pp/pp/boms/{bomId}").to(SCM_PP);
+        routes.get("/scm-pp/pp/products").to(SCM_PP, "/scm-pp/pp/boms/products");
+        routes.get("/scm-pp/pp/products/{productId}").to(SCM_PP, "/scm-pp/pp/boms/products/{productId}");
+        routes.get("/scm-pp/pp/operations").to(SCM_PP, "/scm-pp/pp/boms/operations");
+
+        // MES
+        routes.get("/scm-pp/pp/mes").to(SCM_PP)
+                .queryParams("quotationId")
+                .defaultQuery("status", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "20");
+        routes.get("/scm-pp/pp/mes/status/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/mes/{mesId}").to(SCM_PP);
+        routes.put("/scm-pp/pp/mes/{mesId}/start").to(SCM_PP)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+        routes.put("/scm-pp/pp/mes/{mesId}/operations/{operationId}/start").to(SCM_PP)
+                .principalQuery("managerId", PrincipalAttribute.USER_ID);
+        routes.put("/scm-pp/pp/mes/{mesId}/operations/{operationId}/complete").to(SCM_PP);
+        routes.put("/scm-pp/pp/mes/{mesId}/complete").to(SCM_PP)
+                .principalQuery("requesterId", PrincipalAttribute.USER_ID);
+
+        // MRP
+        routes.post("/scm-pp/pp/mrp/convert").to(SCM_PP)
+                .authorities(PP_AUTHORITIES);
+        routes.get("/scm-pp/pp/mrp/runs").to(SCM_PP)
+                .queryParams("quotationId")
+                .defaultQuery("status", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.put("/scm-pp/pp/mrp/runs/{mrpRunId}/approve").to(SCM_PP);
+        routes.put("/scm-pp/pp/mrp/runs/{mrpRunId}/reject").to(SCM_PP);
+        routes.put("/scm-pp/pp/mrp/runs/{mrpRunId}/receive").to(SCM_PP);
+        routes.get("/scm-pp/pp/mrp/runs/status/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/mrp/runs/quotations/toggle").to(SCM_PP)
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/mrp/quotations/toggle").to(SCM_PP, "/scm-pp/pp/quotations/mrp/quotations/toggle")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/mrp/available/status/toggle").to(SCM_PP, "/scm-pp/pp/quotations/mrp/available/status/toggle")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+
+        // 견적 / MPS
+        routes.get("/scm-pp/pp/quotations").to(SCM_PP)
+                .queryParams("startDate", "endDate")
+                .defaultQuery("statusCode", "ALL")
+                .defaultQuery("availableStatusCode", "ALL")
+                .renameQuery("availableStatusCode", "availableStatus")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.post("/scm-pp/pp/quotations/simulate").to(SCM_PP)
+                .authorities(PP_AUTHORITIES)
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.post("/scm-pp/pp/quotations/preview").to(SCM_PP);
+        routes.post("/scm-pp/pp/quotations/confirm").to(SCM_PP)
+                .authorities(PP_AUTHORITIES);
+        routes.get("/scm-pp/pp/quotations/mps").to(SCM_PP)
+                .requiredQuery("bomId")
+                .requiredQuery("startDate")
+                .requiredQuery("endDate")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "7");
+        routes.get("/scm-pp/pp/quotations/mrp").to(SCM_PP)
+                .queryParams("bomId", "quotationId")
+                .defaultQuery("availableStatusCode", "ALL")
+                .defaultQuery("page", "0")
+                .defaultQuery("size", "10");
+        routes.get("/scm-pp/pp/status/toggle").to(SCM_PP, "/scm-pp/pp/quotations/status/toggle")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/available/status/toggle").to(SCM_PP, "/scm-pp/pp/quotations/available/status/toggle")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+        routes.get("/scm-pp/pp/mps/boms/toggle").to(SCM_PP, "/scm-pp/pp/quotations/boms/toggle")
+                .cache(TOGGLE_TTL, CacheScope.GLOBAL);
+
+        // 통계
+        routes.get("/scm-pp/pp/statistic").to(SCM_PP)
+                .cache(STATISTIC_TTL, CacheScope.GLOBAL);
+    }
+}
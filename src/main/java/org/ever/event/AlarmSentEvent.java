@@ -18,6 +18,7 @@ public class AlarmSentEvent extends BaseEvent {
     String alarmId;
     String alarmType;            // source와 구분하기 위해 alarm 명명
     String targetId;
+    String targetType;           // TargetType 이름, 비어 있으면 targetId 개인 대상
     String title;
     String message;
     String linkId;
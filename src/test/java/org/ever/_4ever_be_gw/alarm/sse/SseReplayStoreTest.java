@@ -0,0 +1,115 @@
+package org.ever._4ever_be_gw.alarm.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+class SseReplayStoreTest {
+
+    private static final String USER_ID = "user-1";
+
+    private AlarmSseProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AlarmSseProperties();
+        properties.setReplayCapacity(3);
+        properties.setReplayHorizon(Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("링이 없는 사용자는 재전송 대신 resync(null) 를 받는다")
+    void noRingRequiresResync() {
+        SseReplayStore store = new SseReplayStore(properties);
+
+        assertThat(store.since(USER_ID, SseEventIds.next())).isNull();
+    }
+
+    @Test
+    @DisplayName("링 구간 안의 Last-Event-ID 는 그 이후 프레임만 재전송한다")
+    void replaysFramesAfterLastEventId() {
+        SseReplayStore store = new SseReplayStore(properties);
+        store.open(USER_ID);
+        long first = record(store);
+        long second = record(store);
+        long third = record(store);
+
+        List<SseReplayStore.Entry> missed = store.since(USER_ID, first);
+
+        assertThat(missed).extracting(SseReplayStore.Entry::eventId).containsExactly(second, third);
+        assertThat(store.since(USER_ID, third)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량 초과로 밀려난 구간을 요청하면 resync(null) 를 받는다")
+    void droppedRangeRequiresResync() {
+        SseReplayStore store = new SseReplayStore(properties);
+        store.open(USER_ID);
+        long before = SseEventIds.next();
+        long first = record(store);
+        record(store);
+        record(store);
+        long fourth = record(store);
+
+        assertThat(store.since(USER_ID, before)).isNull();
+        assertThat(store.since(USER_ID, first)).extracting(SseReplayStore.Entry::eventId).endsWith(fourth);
+    }
+
+    @Test
+    @DisplayName("링 생성 이전에 발급된 Last-Event-ID 는 resync(null) 를 받는다")
+    void idBeforeRingCreationRequiresResync() {
+        SseReplayStore store = new SseReplayStore(properties);
+        long issuedElsewhere = (System.currentTimeMillis() - 60_000) << 10;
+        store.open(USER_ID);
+        record(store);
+
+        assertThat(store.since(USER_ID, issuedElsewhere)).isNull();
+    }
+
+    @Test
+    @DisplayName("연결이 남아 있는 동안에는 replay-horizon 이 지나도 링이 유지된다")
+    void ringIsPinnedWhileConnected() throws InterruptedException {
+        properties.setReplayHorizon(Duration.ofMillis(50));
+        SseReplayStore store = new SseReplayStore(properties);
+        store.open(USER_ID);
+        long last = record(store);
+
+        Thread.sleep(150);
+
+        assertThat(store.since(USER_ID, last)).isNotNull().isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끊긴 뒤 replay-horizon 이 지나면 링이 사라진다")
+    void ringExpiresAfterLastDisconnect() throws InterruptedException {
+        properties.setReplayHorizon(Duration.ofMillis(50));
+        SseReplayStore store = new SseReplayStore(properties);
+        store.open(USER_ID);
+        store.open(USER_ID);
+        long last = record(store);
+
+        store.close(USER_ID);
+        Thread.sleep(150);
+        assertThat(store.since(USER_ID, last)).isNotNull();
+
+        store.close(USER_ID);
+        assertThat(store.since(USER_ID, last)).isNotNull();
+        Thread.sleep(150);
+        assertThat(store.since(USER_ID, last)).isNull();
+    }
+
+    private static long record(SseReplayStore store) {
+        long eventId = SseEventIds.next();
+        store.record(USER_ID, eventId, ServerSentEvent.<String>builder()
+            .id(Long.toString(eventId))
+            .event("alarm")
+            .data("payload-" + eventId)
+            .build());
+        return eventId;
+    }
+}
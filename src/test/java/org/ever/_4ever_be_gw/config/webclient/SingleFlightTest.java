@@ -0,0 +1,123 @@
+package org.ever._4ever_be_gw.config.webclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> flights = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger shares = new AtomicInteger();
+    private final AtomicInteger joins = new AtomicInteger();
+
+    private Sinks.One<String> upstream;
+    private Supplier<Mono<String>> call;
+    private final Function<String, Mono<String>> share = result -> {
+        shares.incrementAndGet();
+        return Mono.just("shared:" + result);
+    };
+    private final Function<String, String> unshare = shared -> shared + ":copy";
+
+    @BeforeEach
+    void setUp() {
+        upstream = Sinks.one();
+        call = () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        };
+    }
+
+    @Test
+    @DisplayName("합류한 follower 가 없으면 leader 결과를 공유 변환 없이 그대로 반환한다")
+    void leaderWithoutFollowersIsNotShared() {
+        AtomicReference<String> leader = new AtomicReference<>();
+
+        execute().subscribe(leader::set);
+        upstream.tryEmitValue("body");
+
+        assertThat(leader.get()).isEqualTo("body");
+        assertThat(shares.get()).isZero();
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업에 합류한 follower 는 leader 와 같은 공유 결과를 받고 작업은 한 번만 실행된다")
+    void followerSharesLeaderResult() {
+        AtomicReference<String> leader = new AtomicReference<>();
+        AtomicReference<String> follower = new AtomicReference<>();
+
+        execute().subscribe(leader::set);
+        execute().subscribe(follower::set);
+        assertThat(flights.inFlightCount()).isEqualTo(1);
+
+        upstream.tryEmitValue("body");
+
+        assertThat(leader.get()).isEqualTo("shared:body:copy");
+        assertThat(follower.get()).isEqualTo("shared:body:copy");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(shares.get()).isEqualTo(1);
+        assertThat(joins.get()).isEqualTo(1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과가 도착한 뒤의 요청은 새로 실행된다")
+    void completedFlightIsNotReused() {
+        execute().subscribe();
+        upstream.tryEmitValue("first");
+
+        upstream = Sinks.one();
+        AtomicReference<String> next = new AtomicReference<>();
+        execute().subscribe(next::set);
+        upstream.tryEmitValue("second");
+
+        assertThat(next.get()).isEqualTo("second");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(joins.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 실패는 follower 에게도 전달된다")
+    void leaderErrorPropagatesToFollower() {
+        AtomicReference<Throwable> leaderError = new AtomicReference<>();
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+
+        execute().subscribe(value -> { }, leaderError::set);
+        execute().subscribe(value -> { }, followerError::set);
+        upstream.tryEmitError(new IllegalStateException("boom"));
+
+        assertThat(leaderError.get()).hasMessage("boom");
+        assertThat(followerError.get()).hasMessage("boom");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flights.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 가 결과 전에 취소되면 follower 는 작업을 다시 실행한다")
+    void followerRetriesWhenLeaderCancels() {
+        AtomicReference<String> follower = new AtomicReference<>();
+
+        Disposable leader = execute().subscribe();
+        execute().subscribe(follower::set);
+        leader.dispose();
+        upstream.tryEmitValue("body");
+
+        assertThat(follower.get()).isEqualTo("body");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(shares.get()).isZero();
+    }
+
+    private Mono<String> execute() {
+        return flights.execute("key", () -> call.get(), share, unshare, joins::incrementAndGet);
+    }
+}
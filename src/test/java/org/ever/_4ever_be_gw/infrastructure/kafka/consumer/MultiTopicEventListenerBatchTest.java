@@ -0,0 +1,152 @@
+package org.ever._4ever_be_gw.infrastructure.kafka.consumer;
+
+import static org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaTopicConfig.USER_EVENT_TOPIC;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.ever._4ever_be_gw.infrastructure.kafka.config.KafkaBatchProperties;
+import org.ever._4ever_be_gw.infrastructure.kafka.consumer.handler.MultiTopicEventHandler;
+import org.ever._4ever_be_gw.infrastructure.kafka.handler.DeadLetterQueueHandler;
+import org.ever.event.UserEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+class MultiTopicEventListenerBatchTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition(USER_EVENT_TOPIC, 0);
+
+    private final MultiTopicEventHandler handler = mock(MultiTopicEventHandler.class);
+    private final DeadLetterQueueHandler deadLetterQueueHandler = mock(DeadLetterQueueHandler.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private MultiTopicEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        KafkaBatchProperties properties = new KafkaBatchProperties();
+        properties.setEnabled(true);
+        properties.setGroupTimeout(Duration.ofMillis(100));
+        listener = new MultiTopicEventListener(new ObjectMapper(), handler, deadLetterQueueHandler, properties,
+            executor, executor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("배치가 제한 시간 안에 모두 끝나면 ack 하고 되감지 않는다")
+    void acknowledgesCompletedBatch() {
+        listener.handleMultiTopicEventBatch(records("u0", "u1", "u2"), acknowledgment, consumer);
+
+        verify(acknowledgment).acknowledge();
+        verify(consumer, never()).commitSync(anyMap());
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 ack 하지 않고 완료 구간만 커밋한 뒤 첫 미완료 레코드로 되감는다")
+    void rewindsUnfinishedRecordsOnTimeout() {
+        doAnswer(invocation -> {
+            UserEvent event = invocation.getArgument(0);
+            if ("slow".equals(event.getUserId())) {
+                Thread.sleep(300);
+            }
+            return null;
+        }).when(handler).handleUserEvent(any());
+
+        listener.handleMultiTopicEventBatch(records("u0", "slow", "u2"), acknowledgment, consumer);
+
+        // 실행 중이던 offset 1 은 끝까지 기다리고, 시작 전인 offset 2 는 처리하지 않음
+        verify(acknowledgment, never()).acknowledge();
+        verify(handler, never()).handleUserEvent(userId("u2"));
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2)));
+        verify(consumer).seek(PARTITION, 2L);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 레코드는 DLQ 로 넘긴 뒤 완료로 보고 배치를 ack 한다")
+    void forwardsFailedRecordAndAcknowledges() {
+        doThrow(new IllegalStateException("boom")).when(handler).handleUserEvent(userId("bad"));
+        when(deadLetterQueueHandler.forward(any(), any())).thenReturn(true);
+
+        listener.handleMultiTopicEventBatch(records("u0", "bad", "u2"), acknowledgment, consumer);
+
+        verify(deadLetterQueueHandler).forward(argThat(record -> record.offset() == 1L), any());
+        verify(handler).handleUserEvent(userId("u2"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("실패한 레코드를 DLQ 로도 넘기지 못하면 ack 하지 않고 그 레코드부터 되감는다")
+    void rewindsWhenForwardFails() {
+        doThrow(new IllegalStateException("boom")).when(handler).handleUserEvent(userId("bad"));
+        when(deadLetterQueueHandler.forward(any(), any())).thenReturn(false);
+
+        listener.handleMultiTopicEventBatch(records("u0", "bad", "u2"), acknowledgment, consumer);
+
+        verify(acknowledgment, never()).acknowledge();
+        verify(handler, never()).handleUserEvent(userId("u2"));
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(1)));
+        verify(consumer).seek(PARTITION, 1L);
+    }
+
+    @Test
+    @DisplayName("풀이 그룹을 거절하면 리스너 스레드에서 처리하지 않고 ack 없이 처음부터 되감는다")
+    void rewindsRejectedGroup() {
+        KafkaBatchProperties properties = new KafkaBatchProperties();
+        properties.setEnabled(true);
+        properties.setGroupTimeout(Duration.ofMillis(100));
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        listener = new MultiTopicEventListener(new ObjectMapper(), handler, deadLetterQueueHandler, properties,
+            rejecting, executor, new SimpleMeterRegistry());
+
+        listener.handleMultiTopicEventBatch(records("u0", "u1"), acknowledgment, consumer);
+
+        verify(handler, never()).handleUserEvent(any());
+        verify(acknowledgment, never()).acknowledge();
+        verify(consumer, never()).commitSync(anyMap());
+        verify(consumer).seek(PARTITION, 0L);
+    }
+
+    private static List<ConsumerRecord<String, Object>> records(String... userIds) {
+        return IntStream.range(0, userIds.length)
+            .mapToObj(offset -> new ConsumerRecord<String, Object>(USER_EVENT_TOPIC, 0, offset, userIds[offset],
+                UserEvent.builder().userId(userIds[offset]).action(UserEvent.UserAction.UPDATED).build()))
+            .toList();
+    }
+
+    private static UserEvent userId(String userId) {
+        return argThat(event -> event != null && userId.equals(event.getUserId()));
+    }
+}
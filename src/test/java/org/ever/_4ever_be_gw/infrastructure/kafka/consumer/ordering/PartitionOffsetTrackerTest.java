@@ -0,0 +1,73 @@
+package org.ever._4ever_be_gw.infrastructure.kafka.consumer.ordering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartitionOffsetTrackerTest {
+
+    private static final String TOPIC = "user-event";
+    private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+
+    private final ConsumerRecord<String, String> p0o10 = record(0, 10);
+    private final ConsumerRecord<String, String> p0o11 = record(0, 11);
+    private final ConsumerRecord<String, String> p0o12 = record(0, 12);
+    private final ConsumerRecord<String, String> p1o5 = record(1, 5);
+    private final ConsumerRecord<String, String> p1o6 = record(1, 6);
+
+    private final PartitionOffsetTracker tracker =
+        new PartitionOffsetTracker(List.of(p0o10, p1o5, p0o11, p1o6, p0o12));
+
+    @Test
+    @DisplayName("아무것도 끝나지 않으면 커밋할 구간이 없고 모든 파티션을 처음부터 다시 읽는다")
+    void nothingCompleted() {
+        assertThat(tracker.committable()).isEmpty();
+        assertThat(tracker.firstIncomplete()).containsEntry(P0, 10L).containsEntry(P1, 5L);
+    }
+
+    @Test
+    @DisplayName("뒤 레코드가 먼저 끝나도 앞에서부터 끊김 없이 완료된 구간까지만 커밋한다")
+    void outOfOrderCompletionCommitsOnlyPrefix() {
+        tracker.complete(p0o12);
+        tracker.complete(p0o10);
+
+        assertThat(tracker.committable()).containsOnlyKeys(P0)
+            .containsEntry(P0, new OffsetAndMetadata(11));
+        assertThat(tracker.firstIncomplete()).containsEntry(P0, 11L).containsEntry(P1, 5L);
+    }
+
+    @Test
+    @DisplayName("빈 자리가 채워지면 이미 끝난 뒤 레코드까지 한 번에 커밋 구간이 늘어난다")
+    void fillingGapAdvancesPastLaterCompletions() {
+        tracker.complete(p0o12);
+        tracker.complete(p0o10);
+        tracker.complete(p0o11);
+        tracker.complete(p1o6);
+
+        assertThat(tracker.committable())
+            .containsEntry(P0, new OffsetAndMetadata(13))
+            .doesNotContainKey(P1);
+        assertThat(tracker.firstIncomplete()).containsOnlyKeys(P1).containsEntry(P1, 5L);
+    }
+
+    @Test
+    @DisplayName("모두 끝난 파티션은 다시 읽을 위치가 없다")
+    void completedPartitionsHaveNoRewind() {
+        List.of(p0o10, p0o11, p0o12, p1o5, p1o6).forEach(tracker::complete);
+
+        assertThat(tracker.committable())
+            .containsEntry(P0, new OffsetAndMetadata(13))
+            .containsEntry(P1, new OffsetAndMetadata(7));
+        assertThat(tracker.firstIncomplete()).isEmpty();
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, "key", "value");
+    }
+}